@@ -0,0 +1,110 @@
+package de.jollyday;
+
+/**
+ * Immutable snapshot of the statistics of a cache. Counts are cumulative
+ * since the cache was created.
+ */
+public final class CacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long loadCount;
+	private final long totalLoadTime;
+	private final long evictionCount;
+	private final long size;
+
+	public CacheStatistics(long hitCount, long missCount, long loadCount, long totalLoadTime, long evictionCount,
+			long size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.loadCount = loadCount;
+		this.totalLoadTime = totalLoadTime;
+		this.evictionCount = evictionCount;
+		this.size = size;
+	}
+
+	/**
+	 * @return the number of lookups which found a cached value
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of lookups which had to create the value
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of lookups
+	 */
+	public long getRequestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return the ratio of hits to lookups, 1.0 if there were no lookups
+	 */
+	public double getHitRate() {
+		long requestCount = getRequestCount();
+		return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return the number of values created on cache misses, including failed
+	 *         attempts
+	 */
+	public long getLoadCount() {
+		return loadCount;
+	}
+
+	/**
+	 * @return the nanoseconds spent creating values
+	 */
+	public long getTotalLoadTime() {
+		return totalLoadTime;
+	}
+
+	/**
+	 * @return the average nanoseconds spent creating a value, 0 if there were
+	 *         no loads
+	 */
+	public double getAverageLoadTime() {
+		return loadCount == 0 ? 0 : (double) totalLoadTime / loadCount;
+	}
+
+	/**
+	 * Adds the counts and sizes of the other statistics to these.
+	 *
+	 * @param other the statistics to add
+	 * @return the sum of both statistics
+	 */
+	public CacheStatistics plus(CacheStatistics other) {
+		return new CacheStatistics(hitCount + other.hitCount, missCount + other.missCount,
+				loadCount + other.loadCount, totalLoadTime + other.totalLoadTime, evictionCount + other.evictionCount,
+				size + other.size);
+	}
+
+	/**
+	 * @return the number of values removed to stay within the maximum size
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return the number of cached values when the snapshot was taken
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[hits=" + hitCount + ", misses=" + missCount + ", loads=" + loadCount
+				+ ", totalLoadTime=" + totalLoadTime + "ns, evictions=" + evictionCount + ", size=" + size + "]";
+	}
+
+}
@@ -0,0 +1,26 @@
+package de.jollyday;
+
+/**
+ * Management interface exposing the cache statistics of jollyday. Registered
+ * with the platform MBean server by
+ * {@link HolidayManager#registerCacheStatisticsMBean()}.
+ */
+public interface CacheStatisticsMXBean {
+
+	/**
+	 * The object name the MBean is registered with.
+	 */
+	String OBJECT_NAME = "de.jollyday:type=CacheStatistics";
+
+	/**
+	 * @return the statistics of the cache holding the manager instances
+	 */
+	CacheStatistics getManagerCacheStatistics();
+
+	/**
+	 * @return the summed statistics of the holiday caches of all cached
+	 *         manager instances
+	 */
+	CacheStatistics getHolidayCacheStatistics();
+
+}
@@ -0,0 +1,138 @@
+package de.jollyday;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches holiday configuration files, i.e. provided by
+ * {@link ManagerParameters#create(URL)} with file URLs, and reloads the cached
+ * managers when a file changes. The files are parsed on a daemon thread and
+ * the new managers are swapped into the manager cache by
+ * {@link HolidayManager#reloadInstance(ManagerParameter)}. Only the caches of
+ * the reloaded managers are replaced. If a changed file cannot be parsed the
+ * previous manager is kept and a warning is logged.
+ */
+public final class ConfigurationReloader implements AutoCloseable {
+
+	private static final Logger LOG = Logger.getLogger(ConfigurationReloader.class.getName());
+
+	private final WatchService watchService;
+	private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+	private final Map<Path, List<ManagerParameter>> parameters = new ConcurrentHashMap<>();
+
+	/**
+	 * Starts the thread watching for changes.
+	 *
+	 * @throws IOException if the file system cannot be watched
+	 */
+	public ConfigurationReloader() throws IOException {
+		watchService = FileSystems.getDefault().newWatchService();
+		Thread thread = new Thread(this::processEvents, "jollyday-configuration-reloader");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Reloads the manager of the parameter whenever its configuration file
+	 * changes.
+	 *
+	 * @param parameter the parameter whose configuration file to watch
+	 * @throws IllegalArgumentException if the configuration is not a file
+	 * @throws IOException if the directory of the file cannot be watched
+	 */
+	public void watch(ManagerParameter parameter) throws IOException {
+		Path file = getConfigurationFile(parameter);
+		Path directory = file.getParent();
+		WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+				StandardWatchEventKinds.ENTRY_MODIFY);
+		directories.put(key, directory);
+		parameters.computeIfAbsent(file, f -> new CopyOnWriteArrayList<>()).add(parameter);
+	}
+
+	/**
+	 * Stops watching and ends the thread.
+	 *
+	 * @throws IOException if closing the watch service fails
+	 */
+	@Override
+	public void close() throws IOException {
+		watchService.close();
+	}
+
+	private static Path getConfigurationFile(ManagerParameter parameter) {
+		URL url = parameter.createResourceUrl();
+		if (url == null || !"file".equals(url.getProtocol())) {
+			throw new IllegalArgumentException("Configuration of " + parameter + " is not a file: " + url);
+		}
+		try {
+			return Paths.get(url.toURI()).toAbsolutePath().normalize();
+		} catch (URISyntaxException e) {
+			throw new IllegalArgumentException("Configuration of " + parameter + " is not a file: " + url, e);
+		}
+	}
+
+	private void processEvents() {
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				Path directory = directories.get(key);
+				Set<Path> changedFiles = new LinkedHashSet<>();
+				for (WatchEvent<?> event : key.pollEvents()) {
+					if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+						for (Path file : parameters.keySet()) {
+							if (file.getParent().equals(directory)) {
+								changedFiles.add(file);
+							}
+						}
+					} else if (directory != null) {
+						changedFiles.add(directory.resolve((Path) event.context()));
+					}
+				}
+				key.reset();
+				for (Path file : changedFiles) {
+					reload(file);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException e) {
+			// closed
+		}
+	}
+
+	private void reload(Path file) {
+		List<ManagerParameter> fileParameters = parameters.get(file);
+		if (fileParameters == null) {
+			return;
+		}
+		for (ManagerParameter parameter : fileParameters) {
+			try {
+				HolidayManager.reloadInstance(parameter);
+				if (LOG.isLoggable(Level.FINE)) {
+					LOG.fine("Reloaded holiday configuration '" + file + "'.");
+				}
+			} catch (RuntimeException e) {
+				LOG.log(Level.WARNING, "Cannot reload holiday configuration '" + file
+						+ "'. Keeping the previous configuration.", e);
+			}
+		}
+	}
+
+}
@@ -15,20 +15,43 @@
  */
 package de.jollyday;
 
+import de.jollyday.caching.HierarchyKey;
 import de.jollyday.caching.HolidayManagerValueHandler;
+import de.jollyday.caching.HolidayYearCache;
+import de.jollyday.caching.HolidayYearIndex;
+import de.jollyday.caching.HolidayYearSpliterator;
 import de.jollyday.configuration.ConfigurationProviderManager;
 import de.jollyday.datasource.ConfigurationDataSource;
 import de.jollyday.util.Cache;
-import de.jollyday.util.Cache.ValueHandler;
 import de.jollyday.util.CalendarUtil;
+import de.jollyday.util.ImmutableHolidaySet;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Abstract base class for all holiday manager implementations. Upon call of
@@ -40,6 +63,12 @@ import java.util.logging.Logger;
  */
 public abstract class HolidayManager {
 
+	/**
+	 * The number of years to search for the next or previous holiday beyond
+	 * the year of the requested date.
+	 */
+	public static final int HOLIDAY_SEARCH_YEARS = 100;
+
 	private static final Logger LOG = Logger.getLogger(HolidayManager.class.getName());
 	/**
 	 * Signifies if caching of manager instances is enabled. If not every call
@@ -55,9 +84,15 @@ public abstract class HolidayManager {
 	 */
 	private static final ConfigurationProviderManager CONFIGURATION_MANAGER_PROVIDER = new ConfigurationProviderManager();
 	/**
-	 * the holiday cache
+	 * the holiday cache holding the indexed holidays per year and hierarchy
+	 */
+	private final HolidayYearCache holidayCache = new HolidayYearCache(this::createHolidayYearIndex,
+			this::resolveHierarchyPath);
+	/**
+	 * the calendar hierarchy to resolve the hierarchy paths against, created
+	 * on first use
 	 */
-	private final Cache<Set<Holiday>> holidayCache = new Cache<>();
+	private volatile CalendarHierarchy calendarHierarchy;
 	/**
 	 * Utility for calendar operations
 	 */
@@ -146,6 +181,44 @@ public abstract class HolidayManager {
 		return createManager(parameter);
 	}
 
+	/**
+	 * Returns the {@link HolidayManager} for the provided
+	 * {@link ManagerParameters} without blocking the calling thread. A cached
+	 * manager is returned as completed future, otherwise the configuration is
+	 * read and the manager is created on the executor. Concurrent requests for
+	 * the same manager, including synchronous ones by
+	 * {@link #getInstance(ManagerParameter)}, share a single creation.
+	 *
+	 * @param parameter
+	 *            the {@link ManagerParameters} to create the manager with
+	 * @param executor
+	 *            the executor to create the manager on
+	 * @return the future completed with the {@link HolidayManager} instance or
+	 *         exceptionally if it cannot be created
+	 */
+	public static CompletableFuture<HolidayManager> getInstanceAsync(final ManagerParameter parameter,
+			final Executor executor) {
+		if (!isManagerCachingEnabled()) {
+			return CompletableFuture.supplyAsync(() -> createManager(parameter), executor);
+		}
+		HolidayManager cached = HOLIDAY_MANAGER_CACHE.getIfPresent(parameter.createCacheKey());
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
+		return HOLIDAY_MANAGER_CACHE.getAsync(new Cache.ValueHandler<HolidayManager>() {
+			@Override
+			public String getKey() {
+				return parameter.createCacheKey();
+			}
+
+			@Override
+			public HolidayManager createValue() {
+				CONFIGURATION_MANAGER_PROVIDER.mergeConfigurationProperties(parameter);
+				return new HolidayManagerValueHandler(parameter, readManagerImplClassName(parameter)).createValue();
+			}
+		}, executor);
+	}
+
 	/**
 	 * Creates a new <code>HolidayManager</code> instance for the country and
 	 * puts it to the manager cache.
@@ -154,6 +227,12 @@ public abstract class HolidayManager {
 	 * @return created or cached holiday manager
 	 */
 	private static HolidayManager createManager(final ManagerParameter parameter) {
+		if (isManagerCachingEnabled()) {
+			HolidayManager cached = HOLIDAY_MANAGER_CACHE.getIfPresent(parameter.createCacheKey());
+			if (cached != null) {
+				return cached;
+			}
+		}
 		if (LOG.isLoggable(Level.FINER)) {
 			LOG.finer("Creating HolidayManager for calendar '" + parameter
 					+ "'. Caching enabled: " + isManagerCachingEnabled());
@@ -185,6 +264,197 @@ public abstract class HolidayManager {
 		return className;
 	}
 
+	/**
+	 * Creates a new manager for the parameter and replaces the cached manager
+	 * with it. The new manager computes the years cached by the replaced one
+	 * before the swap, so lookups are served by the replaced manager meanwhile
+	 * and do not wait for the new one. Managers obtained before keep their
+	 * configuration.
+	 *
+	 * @param parameter the parameter of the manager to reload
+	 * @return the new manager
+	 * @throws IllegalStateException if the manager cannot be created, the
+	 *             cached manager is kept in that case
+	 */
+	public static HolidayManager reloadInstance(final ManagerParameter parameter) {
+		CONFIGURATION_MANAGER_PROVIDER.mergeConfigurationProperties(parameter);
+		HolidayManager manager = new HolidayManagerValueHandler(parameter, readManagerImplClassName(parameter))
+				.createValue();
+		if (isManagerCachingEnabled()) {
+			String key = parameter.createCacheKey();
+			HolidayManager previous = HOLIDAY_MANAGER_CACHE.peek(key);
+			if (previous != null) {
+				previous.holidayCache.forEachEntry((hierarchy, year) -> manager
+						.getHolidayYearIndex(manager.holidayCache.key(hierarchy.getPath()), year));
+			}
+			HOLIDAY_MANAGER_CACHE.put(key, manager);
+		}
+		return manager;
+	}
+
+	/**
+	 * Preloads the managers and their years on the common fork join pool.
+	 *
+	 * @see #preload(Collection, int, int, boolean, Executor)
+	 */
+	public static CompletableFuture<PreloadResult> preload(final Collection<ManagerParameter> parameters,
+			final int yearFrom, final int yearTo, final boolean includeSubHierarchies) {
+		return preload(parameters, yearFrom, yearTo, includeSubHierarchies, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Obtains the managers of the parameters and computes the holidays of the
+	 * years from <code>yearFrom</code> to <code>yearTo</code> in parallel on
+	 * the executor, i.e. to wait for the returned future in a readiness probe.
+	 * Every manager and every hierarchy is loaded by its own task. The years
+	 * stay cached as long as the managers are cached and at most
+	 * {@value ManagerParameter#HOLIDAY_CACHE_MAXIMUM_SIZE} years per manager
+	 * are kept.
+	 *
+	 * @param parameters the parameters of the managers to preload
+	 * @param yearFrom the first year to preload
+	 * @param yearTo the last year to preload, inclusive
+	 * @param includeSubHierarchies whether to preload the years of all sub
+	 *            hierarchies too, otherwise only the country wide years
+	 * @param executor the executor to run the tasks on
+	 * @return the future completed with the timings, or exceptionally if a
+	 *         manager cannot be created
+	 * @throws IllegalArgumentException if <code>yearFrom</code> is after
+	 *             <code>yearTo</code>
+	 */
+	public static CompletableFuture<PreloadResult> preload(final Collection<ManagerParameter> parameters,
+			final int yearFrom, final int yearTo, final boolean includeSubHierarchies, final Executor executor) {
+		if (yearFrom > yearTo) {
+			throw new IllegalArgumentException("Year from " + yearFrom + " is after year to " + yearTo + ".");
+		}
+		Objects.requireNonNull(executor, "executor");
+		long start = System.nanoTime();
+		List<CompletableFuture<PreloadResult.Entry>> entries = new ArrayList<>(parameters.size());
+		for (ManagerParameter parameter : parameters) {
+			entries.add(CompletableFuture.supplyAsync(() -> {
+				long managerStart = System.nanoTime();
+				HolidayManager manager = getInstance(parameter);
+				return new PreloadTask(parameter, manager, System.nanoTime() - managerStart);
+			}, executor).thenCompose(task -> task.loadYears(yearFrom, yearTo, includeSubHierarchies, executor)));
+		}
+		return CompletableFuture.allOf(entries.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+			List<PreloadResult.Entry> result = new ArrayList<>(entries.size());
+			for (CompletableFuture<PreloadResult.Entry> entry : entries) {
+				result.add(entry.join());
+			}
+			return new PreloadResult(result, System.nanoTime() - start);
+		});
+	}
+
+	/**
+	 * Loads the years of all hierarchies of an obtained manager.
+	 */
+	private static final class PreloadTask {
+
+		private final ManagerParameter parameter;
+		private final HolidayManager manager;
+		private final long managerLoadTime;
+		private final LongAdder yearLoadTime = new LongAdder();
+
+		PreloadTask(ManagerParameter parameter, HolidayManager manager, long managerLoadTime) {
+			this.parameter = parameter;
+			this.manager = manager;
+			this.managerLoadTime = managerLoadTime;
+		}
+
+		CompletableFuture<PreloadResult.Entry> loadYears(int yearFrom, int yearTo, boolean includeSubHierarchies,
+				Executor executor) {
+			List<String[]> paths = new ArrayList<>();
+			paths.add(new String[0]);
+			if (includeSubHierarchies) {
+				addChildPaths(manager.getCalendarHierarchy(), new ArrayList<>(), paths);
+			}
+			CompletableFuture<?>[] tasks = new CompletableFuture<?>[paths.size()];
+			for (int i = 0; i < tasks.length; i++) {
+				HierarchyKey hierarchy = manager.holidayCache.key(paths.get(i));
+				tasks[i] = CompletableFuture.runAsync(() -> {
+					long hierarchyStart = System.nanoTime();
+					for (int year = yearFrom; year <= yearTo; year++) {
+						manager.getHolidayYearIndex(hierarchy, year);
+					}
+					yearLoadTime.add(System.nanoTime() - hierarchyStart);
+				}, executor);
+			}
+			return CompletableFuture.allOf(tasks).thenApply(v -> new PreloadResult.Entry(parameter.getDisplayName(),
+					managerLoadTime, yearLoadTime.sum(), paths.size(), yearTo - yearFrom + 1));
+		}
+
+		private static void addChildPaths(CalendarHierarchy hierarchy, List<String> path, List<String[]> paths) {
+			for (CalendarHierarchy child : hierarchy.getChildren().values()) {
+				path.add(child.getId());
+				paths.add(path.toArray(new String[0]));
+				addChildPaths(child, path, paths);
+				path.remove(path.size() - 1);
+			}
+		}
+
+	}
+
+	/**
+	 * Returns the statistics of the cache holding the manager instances.
+	 *
+	 * @return a snapshot of the manager cache statistics
+	 */
+	public static CacheStatistics getManagerCacheStatistics() {
+		return HOLIDAY_MANAGER_CACHE.getStatistics();
+	}
+
+	/**
+	 * Registers a {@link CacheStatisticsMXBean} with the platform MBean server
+	 * under {@value CacheStatisticsMXBean#OBJECT_NAME}. Does nothing if it is
+	 * already registered.
+	 *
+	 * @throws IllegalStateException if the registration fails
+	 */
+	public static synchronized void registerCacheStatisticsMBean() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(CacheStatisticsMXBean.OBJECT_NAME);
+			if (!server.isRegistered(name)) {
+				server.registerMBean(new CacheStatisticsMXBean() {
+					@Override
+					public CacheStatistics getManagerCacheStatistics() {
+						return HolidayManager.getManagerCacheStatistics();
+					}
+
+					@Override
+					public CacheStatistics getHolidayCacheStatistics() {
+						CacheStatistics statistics = new CacheStatistics(0, 0, 0, 0, 0, 0);
+						for (HolidayManager manager : HOLIDAY_MANAGER_CACHE.values()) {
+							statistics = statistics.plus(manager.getHolidayCacheStatistics());
+						}
+						return statistics;
+					}
+				}, name);
+			}
+		} catch (JMException e) {
+			throw new IllegalStateException("Cannot register " + CacheStatisticsMXBean.OBJECT_NAME, e);
+		}
+	}
+
+	/**
+	 * Unregisters the {@link CacheStatisticsMXBean} from the platform MBean
+	 * server if it is registered.
+	 *
+	 * @throws IllegalStateException if the unregistration fails
+	 */
+	public static synchronized void unregisterCacheStatisticsMBean() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(CacheStatisticsMXBean.OBJECT_NAME);
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+		} catch (JMException e) {
+			throw new IllegalStateException("Cannot unregister " + CacheStatisticsMXBean.OBJECT_NAME, e);
+		}
+	}
+
 	/**
 	 * If true, instantiated managers will be cached. If false every call to
 	 * getInstance will create new manager. True by default.
@@ -214,6 +484,17 @@ public abstract class HolidayManager {
 		HOLIDAY_MANAGER_CACHE.clear();
 	}
 
+	/**
+	 * Reads the properties of the configuration providers again when the
+	 * next manager is created. They are otherwise only read again if the
+	 * system properties 'de.jollyday.config.urls' or
+	 * 'de.jollyday.config.providers' change. Cached managers keep their
+	 * properties, call {@link #clearManagerCache()} to recreate them.
+	 */
+	public static void refreshConfigurationProperties() {
+		CONFIGURATION_MANAGER_PROVIDER.refresh();
+	}
+
 	/**
 	 * Calls isHoliday with {@link LocalDate} object.
 	 *
@@ -231,7 +512,10 @@ public abstract class HolidayManager {
 	}
 
 	/**
-	 * Show if the requested date is a holiday.
+	 * Show if the requested date is a holiday. Only the holidays computed for
+	 * the year of the date are considered, just as by
+	 * {@link #getHolidays(int, String...)}. A holiday the next year moves into
+	 * the date's year, i.e. New Year's Day observed on December 31st, is not.
 	 *
 	 * @param c The potential holiday.
 	 * @param holidayType a {@link HolidayType} object
@@ -241,23 +525,144 @@ public abstract class HolidayManager {
 	 * @return is a holiday in the state/region
 	 */
 	public boolean isHoliday(final LocalDate c, HolidayType holidayType, final String... args) {
-		final StringBuilder keyBuilder = new StringBuilder();
-		keyBuilder.append(c.getYear());
-		for (String arg : args) {
-			keyBuilder.append("_");
-			keyBuilder.append(arg);
+		return getHolidayYearIndex(holidayCache.key(args), c.getYear()).contains(c, holidayType);
+	}
+
+	/**
+	 * Shows for each epoch day if it is a holiday. Each distinct year of the
+	 * epoch days is resolved from the cache once, whatever their order. No
+	 * dates are created per element.
+	 *
+	 * @param epochDays the days since 1970-01-01 to check
+	 * @param holidayType the type of holiday. NULL checks any.
+	 * @param args
+	 *            Hierarchy to request the holidays for. i.e. args = {'ny'} -&gt;
+	 *            New York holidays
+	 * @return the holiday flags at the positions of the epoch days
+	 */
+	public boolean[] isHoliday(final long[] epochDays, HolidayType holidayType, final String... args) {
+		Objects.requireNonNull(epochDays, "epochDays is null");
+		YearIndexes indexes = new YearIndexes(holidayCache.key(args), epochDays);
+		boolean[] holidays = new boolean[epochDays.length];
+		for (int i = 0; i < epochDays.length; i++) {
+			holidays[i] = indexes.get(epochDays[i]).contains(epochDays[i], holidayType);
 		}
-		Set<Holiday> holidays = holidayCache.get(new ValueHandler<Set<Holiday>>() {
-			@Override
-			public String getKey() {
-				return keyBuilder.toString();
+		return holidays;
+	}
+
+	/**
+	 * Shows for each epoch day if it is a holiday by setting the bit of its
+	 * position within the returned {@link BitSet}.
+	 *
+	 * @param epochDays the days since 1970-01-01 to check
+	 * @param holidayType the type of holiday. NULL checks any.
+	 * @param args
+	 *            Hierarchy to request the holidays for. i.e. args = {'ny'} -&gt;
+	 *            New York holidays
+	 * @return the set positions of the epoch days which are holidays
+	 * @see #isHoliday(long[], HolidayType, String...)
+	 */
+	public BitSet isHolidayBitSet(final long[] epochDays, HolidayType holidayType, final String... args) {
+		Objects.requireNonNull(epochDays, "epochDays is null");
+		YearIndexes indexes = new YearIndexes(holidayCache.key(args), epochDays);
+		BitSet holidays = new BitSet(epochDays.length);
+		for (int i = 0; i < epochDays.length; i++) {
+			if (indexes.get(epochDays[i]).contains(epochDays[i], holidayType)) {
+				holidays.set(i);
 			}
-			@Override
-			public Set<Holiday> createValue() {
-				return getHolidays(c.getYear(), args);
+		}
+		return holidays;
+	}
+
+	/**
+	 * Resolves the indexed years of a bulk request once per distinct year. The
+	 * years are kept in an array if they span no more years than there are
+	 * epoch days, in a map otherwise.
+	 */
+	private final class YearIndexes {
+
+		private final HierarchyKey hierarchy;
+		private final int firstYear;
+		private final HolidayYearIndex[] indexes;
+		private final Map<Integer, HolidayYearIndex> spreadIndexes;
+		private HolidayYearIndex last;
+
+		private YearIndexes(HierarchyKey hierarchy, long[] epochDays) {
+			this.hierarchy = hierarchy;
+			long min = Long.MAX_VALUE;
+			long max = Long.MIN_VALUE;
+			for (long epochDay : epochDays) {
+				min = Math.min(min, epochDay);
+				max = Math.max(max, epochDay);
 			}
-		});
-		return calendarUtil.contains(holidays, c, holidayType);
+			if (epochDays.length == 0) {
+				firstYear = 0;
+				indexes = new HolidayYearIndex[0];
+				spreadIndexes = null;
+			} else {
+				firstYear = CalendarUtil.getYearOfEpochDay(min);
+				long years = (long) CalendarUtil.getYearOfEpochDay(max) - firstYear + 1;
+				indexes = years <= epochDays.length ? new HolidayYearIndex[(int) years] : null;
+				spreadIndexes = indexes == null ? new HashMap<>() : null;
+			}
+		}
+
+		private HolidayYearIndex get(long epochDay) {
+			if (last != null && last.containsEpochDay(epochDay)) {
+				return last;
+			}
+			int year = CalendarUtil.getYearOfEpochDay(epochDay);
+			if (indexes != null) {
+				HolidayYearIndex index = indexes[year - firstYear];
+				if (index == null) {
+					index = getHolidayYearIndex(hierarchy, year);
+					indexes[year - firstYear] = index;
+				}
+				last = index;
+			} else {
+				last = spreadIndexes.computeIfAbsent(year, y -> getHolidayYearIndex(hierarchy, y));
+			}
+			return last;
+		}
+
+	}
+
+	/**
+	 * Returns the eventually cached and indexed holidays of the year for the
+	 * hierarchy.
+	 *
+	 * @param hierarchy the hierarchy key
+	 * @param year the year
+	 * @return the indexed holidays
+	 */
+	HolidayYearIndex getHolidayYearIndex(HierarchyKey hierarchy, int year) {
+		return holidayCache.get(hierarchy, year);
+	}
+
+	/**
+	 * Computes the holidays of the year for the hierarchy and indexes them.
+	 * The holidays of the adjacent years are taken from their cached indexes
+	 * once searching or counting business days needs them.
+	 *
+	 * @param key the hierarchy to compute the holidays for
+	 * @param year the year to compute the holidays for
+	 * @return the indexed holidays
+	 */
+	private HolidayYearIndex createHolidayYearIndex(HierarchyKey key, int year) {
+		String[] path = key.getPath();
+		return new HolidayYearIndex(year, ImmutableHolidaySet.copyOf(getHolidays(year, path)),
+				() -> getAdjacentHolidays(key, year), getWeekendMask(year, path));
+	}
+
+	/**
+	 * Returns the holidays computed for the previous and the next year. Their
+	 * rules may move holidays into the year, i.e. New Year's Day to December
+	 * 31st.
+	 */
+	private List<Holiday> getAdjacentHolidays(HierarchyKey key, int year) {
+		List<Holiday> adjacentHolidays = new ArrayList<>(getHolidayYearIndex(key, year - 1).getHolidays());
+		adjacentHolidays.addAll(getHolidayYearIndex(key, year + 1).getHolidays());
+		return adjacentHolidays;
 	}
 
 	/**
@@ -270,6 +675,335 @@ public abstract class HolidayManager {
 		return isHoliday(c, null, args);
 	}
 
+	/**
+	 * Returns the first holiday of the type on or after the date. The search
+	 * continues into the following years for at most
+	 * {@value #HOLIDAY_SEARCH_YEARS} years. Holidays are found on their date,
+	 * also if the rules of an adjacent year moved them there.
+	 *
+	 * @param date the date to start the search at, inclusive
+	 * @param holidayType the type of holiday. NULL returns any.
+	 * @param args
+	 *            Hierarchy to request the holidays for. i.e. args = {'ny'} -&gt;
+	 *            New York holidays
+	 * @return the next holiday or empty if there is none within the search range
+	 */
+	public Optional<Holiday> nextHoliday(final LocalDate date, HolidayType holidayType, final String... args) {
+		return nextHoliday(holidayCache.key(args), date, holidayType);
+	}
+
+	/**
+	 * Calls #nextHoliday(date, null, args)
+	 * @param date the date to start the search at, inclusive
+	 * @param args the arguments to find the calendar
+	 * @return the next holiday or empty if there is none within the search range
+	 */
+	public Optional<Holiday> nextHoliday(final LocalDate date, final String... args) {
+		return nextHoliday(date, null, args);
+	}
+
+	/**
+	 * Returns the last holiday of the type on or before the date. The search
+	 * continues into the previous years for at most
+	 * {@value #HOLIDAY_SEARCH_YEARS} years.
+	 *
+	 * @param date the date to start the search at, inclusive
+	 * @param holidayType the type of holiday. NULL returns any.
+	 * @param args
+	 *            Hierarchy to request the holidays for. i.e. args = {'ny'} -&gt;
+	 *            New York holidays
+	 * @return the previous holiday or empty if there is none within the search
+	 *         range
+	 */
+	public Optional<Holiday> previousHoliday(final LocalDate date, HolidayType holidayType, final String... args) {
+		return previousHoliday(holidayCache.key(args), date, holidayType);
+	}
+
+	/**
+	 * Calls #previousHoliday(date, null, args)
+	 * @param date the date to start the search at, inclusive
+	 * @param args the arguments to find the calendar
+	 * @return the previous holiday or empty if there is none within the search
+	 *         range
+	 */
+	public Optional<Holiday> previousHoliday(final LocalDate date, final String... args) {
+		return previousHoliday(date, null, args);
+	}
+
+	Optional<Holiday> nextHoliday(HierarchyKey hierarchy, LocalDate date, HolidayType holidayType) {
+		long epochDay = date.toEpochDay();
+		for (int year = date.getYear(); year <= date.getYear() + HOLIDAY_SEARCH_YEARS; year++) {
+			Holiday holiday = getHolidayYearIndex(hierarchy, year).findFirstOnOrAfter(epochDay, holidayType);
+			if (holiday != null) {
+				return Optional.of(holiday);
+			}
+		}
+		return Optional.empty();
+	}
+
+	Optional<Holiday> previousHoliday(HierarchyKey hierarchy, LocalDate date, HolidayType holidayType) {
+		long epochDay = date.toEpochDay();
+		for (int year = date.getYear(); year >= date.getYear() - HOLIDAY_SEARCH_YEARS; year--) {
+			Holiday holiday = getHolidayYearIndex(hierarchy, year).findLastOnOrBefore(epochDay, holidayType);
+			if (holiday != null) {
+				return Optional.of(holiday);
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the holidays within the interval as lazily evaluated stream in
+	 * date order. The holidays are computed one year at a time while the
+	 * stream is consumed, so short-circuiting operations like
+	 * {@link Stream#findFirst()} or {@link Stream#limit(long)} only compute
+	 * the years they need. Holidays on the same date are ordered by their
+	 * properties key. Like the holiday search, the stream contains every
+	 * holiday dated within the interval, including those computed for the
+	 * years around it.
+	 *
+	 * @param startDateInclusive
+	 *            the start date of the interval in which holidays lie, inclusive
+	 * @param endDateInclusive
+	 *            the end date of the interval in which holidays lie, inclusive
+	 * @param args
+	 *            Hierarchy to request the holidays for. i.e. args = {'ny'} -&gt;
+	 *            New York holidays
+	 * @return the ordered stream of holidays within the interval
+	 */
+	public Stream<Holiday> holidays(final LocalDate startDateInclusive, final LocalDate endDateInclusive,
+			final String... args) {
+		return holidays(holidayCache.key(args), startDateInclusive, endDateInclusive);
+	}
+
+	Stream<Holiday> holidays(HierarchyKey hierarchy, LocalDate startDateInclusive, LocalDate endDateInclusive) {
+		Objects.requireNonNull(startDateInclusive, "startDateInclusive is null");
+		Objects.requireNonNull(endDateInclusive, "endDateInclusive is null");
+		return StreamSupport.stream(
+				new HolidayYearSpliterator(holidayCache, hierarchy, startDateInclusive, endDateInclusive), false);
+	}
+
+	/**
+	 * Shows if the requested date is on a weekend as configured for the
+	 * hierarchy.
+	 *
+	 * @param date the date to check
+	 * @param args
+	 *            Hierarchy to request the weekend for. i.e. args = {'ny'} -&gt;
+	 *            New York weekend
+	 * @return is on a weekend in the state/region
+	 */
+	public boolean isWeekend(final LocalDate date, final String... args) {
+		return getHolidayYearIndex(holidayCache.key(args), date.getYear()).isWeekend(date.getDayOfYear());
+	}
+
+	/**
+	 * Returns the weekend days of the year for the hierarchy as bitmask
+	 * created by {@link CalendarUtil#createWeekendMask(java.time.DayOfWeek...)}.
+	 * Defaults to Saturday and Sunday.
+	 *
+	 * @param year the year to return the weekend for
+	 * @param args
+	 *            Hierarchy to request the weekend for. i.e. args = {'ny'} -&gt;
+	 *            New York weekend
+	 * @return the weekend mask
+	 */
+	protected int getWeekendMask(int year, final String... args) {
+		return CalendarUtil.SATURDAY_SUNDAY_WEEKEND;
+	}
+
+	/**
+	 * Shows if the requested date is a business day, i.e. neither on a weekend
+	 * nor a holiday of the type. Unlike
+	 * {@link #isHoliday(LocalDate, HolidayType, String...)} the business day
+	 * methods consider every holiday dated on a day, including those computed
+	 * for the adjacent years, i.e. New Year's Day observed on December 31st.
+	 *
+	 * @param date the date to check
+	 * @param holidayType the type of holiday. NULL considers any.
+	 * @param args
+	 *            Hierarchy to request the holidays for. i.e. args = {'ny'} -&gt;
+	 *            New York holidays
+	 * @return is a business day in the state/region
+	 */
+	public boolean isBusinessDay(final LocalDate date, HolidayType holidayType, final String... args) {
+		return isBusinessDay(holidayCache.key(args), date, holidayType);
+	}
+
+	/**
+	 * Calls #isBusinessDay(date, null, args)
+	 * @param date the date to check
+	 * @param args the arguments to find the calendar
+	 * @return whether the date is a business day
+	 */
+	public boolean isBusinessDay(final LocalDate date, final String... args) {
+		return isBusinessDay(date, null, args);
+	}
+
+	/**
+	 * Returns the date which is the amount of business days away from the
+	 * provided date. A positive amount returns the n-th business day after, a
+	 * negative amount the n-th business day before the date. Zero returns the
+	 * date itself.
+	 *
+	 * @param date the date to start from
+	 * @param businessDays the amount of business days to add
+	 * @param holidayType the type of holiday. NULL considers any.
+	 * @param args
+	 *            Hierarchy to request the holidays for. i.e. args = {'ny'} -&gt;
+	 *            New York holidays
+	 * @return the resulting business day
+	 */
+	public LocalDate addBusinessDays(final LocalDate date, int businessDays, HolidayType holidayType,
+			final String... args) {
+		return addBusinessDays(holidayCache.key(args), date, businessDays, holidayType);
+	}
+
+	/**
+	 * Calls #addBusinessDays(date, businessDays, null, args)
+	 * @param date the date to start from
+	 * @param businessDays the amount of business days to add
+	 * @param args the arguments to find the calendar
+	 * @return the resulting business day
+	 */
+	public LocalDate addBusinessDays(final LocalDate date, int businessDays, final String... args) {
+		return addBusinessDays(date, businessDays, null, args);
+	}
+
+	/**
+	 * Counts the business days after the start date up to and including the
+	 * end date. If the end date is before the start date the count is
+	 * negative.
+	 *
+	 * @param startDateExclusive the start of the interval, exclusive
+	 * @param endDateInclusive the end of the interval, inclusive
+	 * @param holidayType the type of holiday. NULL considers any.
+	 * @param args
+	 *            Hierarchy to request the holidays for. i.e. args = {'ny'} -&gt;
+	 *            New York holidays
+	 * @return the number of business days
+	 */
+	public int countBusinessDays(final LocalDate startDateExclusive, final LocalDate endDateInclusive,
+			HolidayType holidayType, final String... args) {
+		return countBusinessDays(holidayCache.key(args), startDateExclusive, endDateInclusive, holidayType);
+	}
+
+	/**
+	 * Calls #countBusinessDays(startDateExclusive, endDateInclusive, null, args)
+	 * @param startDateExclusive the start of the interval, exclusive
+	 * @param endDateInclusive the end of the interval, inclusive
+	 * @param args the arguments to find the calendar
+	 * @return the number of business days
+	 */
+	public int countBusinessDays(final LocalDate startDateExclusive, final LocalDate endDateInclusive,
+			final String... args) {
+		return countBusinessDays(startDateExclusive, endDateInclusive, null, args);
+	}
+
+	boolean isBusinessDay(HierarchyKey hierarchy, LocalDate date, HolidayType holidayType) {
+		return getHolidayYearIndex(hierarchy, date.getYear()).isBusinessDay(date.getDayOfYear(), holidayType);
+	}
+
+	LocalDate addBusinessDays(HierarchyKey hierarchy, LocalDate date, int businessDays, HolidayType holidayType) {
+		Objects.requireNonNull(date, "date is null");
+		if (businessDays == 0) {
+			return date;
+		}
+		int year = date.getYear();
+		HolidayYearIndex index = getHolidayYearIndex(hierarchy, year);
+		// the number of the target business day counted from the start of the year
+		long target = businessDays > 0 ? index.countBusinessDays(date.getDayOfYear(), holidayType) + businessDays
+				: index.countBusinessDays(date.getDayOfYear() - 1, holidayType) + businessDays + 1;
+		while (target > index.countBusinessDays(holidayType)) {
+			target -= index.countBusinessDays(holidayType);
+			index = getHolidayYearIndex(hierarchy, ++year);
+		}
+		while (target < 1) {
+			index = getHolidayYearIndex(hierarchy, --year);
+			target += index.countBusinessDays(holidayType);
+		}
+		return LocalDate.ofYearDay(year, index.getBusinessDay((int) target, holidayType));
+	}
+
+	int countBusinessDays(HierarchyKey hierarchy, LocalDate startDateExclusive, LocalDate endDateInclusive,
+			HolidayType holidayType) {
+		Objects.requireNonNull(startDateExclusive, "startDateExclusive is null");
+		Objects.requireNonNull(endDateInclusive, "endDateInclusive is null");
+		if (endDateInclusive.isBefore(startDateExclusive)) {
+			return -countBusinessDays(hierarchy, endDateInclusive, startDateExclusive, holidayType);
+		}
+		int count = -getHolidayYearIndex(hierarchy, startDateExclusive.getYear())
+				.countBusinessDays(startDateExclusive.getDayOfYear(), holidayType);
+		for (int year = startDateExclusive.getYear(); year < endDateInclusive.getYear(); year++) {
+			count += getHolidayYearIndex(hierarchy, year).countBusinessDays(holidayType);
+		}
+		return count + getHolidayYearIndex(hierarchy, endDateInclusive.getYear())
+				.countBusinessDays(endDateInclusive.getDayOfYear(), holidayType);
+	}
+
+	/**
+	 * Resolves the hierarchy path once and returns a handle to check and
+	 * retrieve the holidays of this region without resolving it again.
+	 *
+	 * @param args
+	 *            Hierarchy to request the holidays for. i.e. args = {'ny'} -&gt;
+	 *            New York holidays. No args -&gt; holidays common to whole
+	 *            country
+	 * @return the region handle
+	 * @throws IllegalArgumentException
+	 *             if the hierarchy is not configured for this manager
+	 */
+	public RegionCalendar forRegion(final String... args) {
+		String[] path = args == null ? new String[0] : args;
+		String[] ids = resolveHierarchyPath(path);
+		if (ids.length < path.length) {
+			throw new IllegalArgumentException("Unknown hierarchy '" + path[ids.length] + "' within '"
+					+ (ids.length == 0 ? getCalendarHierarchy().getId() : ids[ids.length - 1]) + "'.");
+		}
+		return new RegionCalendar(this, holidayCache.key(ids));
+	}
+
+	/**
+	 * Resolves the hierarchy path case insensitively against the calendar
+	 * hierarchy. Unknown ids end the path, just as they do when computing the
+	 * holidays.
+	 *
+	 * @param path
+	 *            the hierarchy path
+	 * @return the configured ids of the path, the provided path if it matches
+	 *         them exactly
+	 */
+	private String[] resolveHierarchyPath(String[] path) {
+		CalendarHierarchy hierarchy = calendarHierarchy;
+		if (hierarchy == null) {
+			hierarchy = getCalendarHierarchy();
+			if (hierarchy == null) {
+				return path;
+			}
+			calendarHierarchy = hierarchy;
+		}
+		List<String> ids = new ArrayList<>(path.length);
+		for (String id : path) {
+			hierarchy = findChild(hierarchy, id);
+			if (hierarchy == null) {
+				break;
+			}
+			ids.add(hierarchy.getId());
+		}
+		return ids.equals(Arrays.asList(path)) ? path : ids.toArray(new String[0]);
+	}
+
+	private static CalendarHierarchy findChild(CalendarHierarchy hierarchy, String id) {
+		if (id != null) {
+			for (CalendarHierarchy child : hierarchy.getChildren().values()) {
+				if (child.getId().equalsIgnoreCase(id)) {
+					return child;
+				}
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Returns a set of all currently supported calendar codes.
 	 *
@@ -316,9 +1050,39 @@ public abstract class HolidayManager {
 	 */
 	public void init(ManagerParameter parameters) {
 		this.managerParameter = parameters;
+		holidayCache.setMaximumSize(readHolidayCacheMaximumSize(parameters));
 		this.doInit();
 	}
 
+	/**
+	 * Reads the maximum size of the holiday cache from the parameter.
+	 * @param parameter the parameter to read the maximum size from
+	 * @return the maximum size, zero if unbounded
+	 */
+	private static int readHolidayCacheMaximumSize(ManagerParameter parameter) {
+		String maximumSize = parameter.getProperty(ManagerParameter.HOLIDAY_CACHE_MAXIMUM_SIZE);
+		if (maximumSize == null || maximumSize.trim().isEmpty()) {
+			return 0;
+		}
+		try {
+			return Integer.parseInt(maximumSize.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalStateException("Invalid configuration '" + ManagerParameter.HOLIDAY_CACHE_MAXIMUM_SIZE
+					+ "' value '" + maximumSize + "'.", e);
+		}
+	}
+
+	/**
+	 * Returns the statistics of the cache holding the computed holidays per
+	 * year and hierarchy of this manager. The cache size is limited by the
+	 * property {@value ManagerParameter#HOLIDAY_CACHE_MAXIMUM_SIZE}.
+	 *
+	 * @return a snapshot of the holiday cache statistics
+	 */
+	public CacheStatistics getHolidayCacheStatistics() {
+		return holidayCache.getStatistics();
+	}
+
 	public abstract void doInit();
 
 	/**
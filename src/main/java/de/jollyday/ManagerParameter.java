@@ -7,6 +7,7 @@ public interface ManagerParameter {
 
 	String CONFIGURATION_DATASOURCE_IMPL_CLASS = "configuration.datasource.impl";
 	String MANAGER_IMPL_CLASS_PREFIX = "manager.impl";
+	String HOLIDAY_CACHE_MAXIMUM_SIZE = "holiday.cache.maximum.size";
 
 	void mergeProperties(Properties properties);
 	String getProperty(String key);
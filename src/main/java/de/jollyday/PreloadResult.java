@@ -0,0 +1,106 @@
+package de.jollyday;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Timings of a completed
+ * {@link HolidayManager#preload(java.util.Collection, int, int, boolean)}. All
+ * times are nanoseconds.
+ */
+public final class PreloadResult {
+
+	private final List<Entry> entries;
+	private final long totalTime;
+
+	PreloadResult(List<Entry> entries, long totalTime) {
+		this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+		this.totalTime = totalTime;
+	}
+
+	/**
+	 * @return the entries of the preloaded managers in the order of their
+	 *         parameters
+	 */
+	public List<Entry> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * @return the wall clock nanoseconds from starting the preload until all
+	 *         managers and years were loaded
+	 */
+	public long getTotalTime() {
+		return totalTime;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[totalTime=" + totalTime + "ns, entries=" + entries + "]";
+	}
+
+	/**
+	 * Timings of a single preloaded manager.
+	 */
+	public static final class Entry {
+
+		private final String calendar;
+		private final long managerLoadTime;
+		private final long yearLoadTime;
+		private final int hierarchyCount;
+		private final int yearCount;
+
+		Entry(String calendar, long managerLoadTime, long yearLoadTime, int hierarchyCount, int yearCount) {
+			this.calendar = calendar;
+			this.managerLoadTime = managerLoadTime;
+			this.yearLoadTime = yearLoadTime;
+			this.hierarchyCount = hierarchyCount;
+			this.yearCount = yearCount;
+		}
+
+		/**
+		 * @return the display name of the managers parameter
+		 */
+		public String getCalendar() {
+			return calendar;
+		}
+
+		/**
+		 * @return the nanoseconds spent obtaining the manager
+		 */
+		public long getManagerLoadTime() {
+			return managerLoadTime;
+		}
+
+		/**
+		 * @return the nanoseconds spent computing the years, summed over all
+		 *         hierarchies
+		 */
+		public long getYearLoadTime() {
+			return yearLoadTime;
+		}
+
+		/**
+		 * @return the number of preloaded hierarchies
+		 */
+		public int getHierarchyCount() {
+			return hierarchyCount;
+		}
+
+		/**
+		 * @return the number of preloaded years per hierarchy
+		 */
+		public int getYearCount() {
+			return yearCount;
+		}
+
+		@Override
+		public String toString() {
+			return calendar + "[managerLoadTime=" + managerLoadTime + "ns, yearLoadTime=" + yearLoadTime
+					+ "ns, hierarchies=" + hierarchyCount + ", years=" + yearCount + "]";
+		}
+
+	}
+
+}
@@ -0,0 +1,247 @@
+package de.jollyday;
+
+import de.jollyday.caching.HierarchyKey;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Immutable handle on one hierarchy of a {@link HolidayManager}, i.e. the
+ * holidays of New York within the US calendar. The hierarchy path is resolved
+ * once when the handle is created by {@link HolidayManager#forRegion(String...)}
+ * so the handle can be kept and used in hot loops.
+ */
+public final class RegionCalendar {
+
+	private final HolidayManager manager;
+	private final HierarchyKey hierarchy;
+
+	RegionCalendar(HolidayManager manager, HierarchyKey hierarchy) {
+		this.manager = manager;
+		this.hierarchy = hierarchy;
+	}
+
+	/**
+	 * @return the manager this region belongs to
+	 */
+	public HolidayManager getManager() {
+		return manager;
+	}
+
+	/**
+	 * @return the hierarchy path of this region, i.e. {"ny"} within the US
+	 *         calendar
+	 */
+	public String[] getHierarchy() {
+		return hierarchy.getPath();
+	}
+
+	/**
+	 * Shows if the date is a holiday of any type within this region.
+	 *
+	 * @param date the date to check
+	 * @return is a holiday in this region
+	 */
+	public boolean isHoliday(LocalDate date) {
+		return isHoliday(date, null);
+	}
+
+	/**
+	 * Shows if the date is a holiday of the type within this region.
+	 *
+	 * @param date the date to check
+	 * @param holidayType the type of holiday. NULL checks any.
+	 * @return is a holiday in this region
+	 */
+	public boolean isHoliday(LocalDate date, HolidayType holidayType) {
+		return manager.getHolidayYearIndex(hierarchy, date.getYear()).contains(date, holidayType);
+	}
+
+	/**
+	 * Returns the first holiday of any type on or after the date.
+	 *
+	 * @param date the date to start the search at, inclusive
+	 * @return the next holiday or empty if there is none within
+	 *         {@link HolidayManager#HOLIDAY_SEARCH_YEARS}
+	 */
+	public Optional<Holiday> nextHoliday(LocalDate date) {
+		return nextHoliday(date, null);
+	}
+
+	/**
+	 * Returns the first holiday of the type on or after the date.
+	 *
+	 * @param date the date to start the search at, inclusive
+	 * @param holidayType the type of holiday. NULL returns any.
+	 * @return the next holiday or empty if there is none within
+	 *         {@link HolidayManager#HOLIDAY_SEARCH_YEARS}
+	 */
+	public Optional<Holiday> nextHoliday(LocalDate date, HolidayType holidayType) {
+		return manager.nextHoliday(hierarchy, date, holidayType);
+	}
+
+	/**
+	 * Returns the last holiday of any type on or before the date.
+	 *
+	 * @param date the date to start the search at, inclusive
+	 * @return the previous holiday or empty if there is none within
+	 *         {@link HolidayManager#HOLIDAY_SEARCH_YEARS}
+	 */
+	public Optional<Holiday> previousHoliday(LocalDate date) {
+		return previousHoliday(date, null);
+	}
+
+	/**
+	 * Returns the last holiday of the type on or before the date.
+	 *
+	 * @param date the date to start the search at, inclusive
+	 * @param holidayType the type of holiday. NULL returns any.
+	 * @return the previous holiday or empty if there is none within
+	 *         {@link HolidayManager#HOLIDAY_SEARCH_YEARS}
+	 */
+	public Optional<Holiday> previousHoliday(LocalDate date, HolidayType holidayType) {
+		return manager.previousHoliday(hierarchy, date, holidayType);
+	}
+
+	/**
+	 * Shows if the date is on a weekend within this region.
+	 *
+	 * @param date the date to check
+	 * @return is on a weekend in this region
+	 */
+	public boolean isWeekend(LocalDate date) {
+		return manager.getHolidayYearIndex(hierarchy, date.getYear()).isWeekend(date.getDayOfYear());
+	}
+
+	/**
+	 * Shows if the date is a business day within this region, i.e. neither on a
+	 * weekend nor a holiday of any type.
+	 *
+	 * @param date the date to check
+	 * @return is a business day in this region
+	 */
+	public boolean isBusinessDay(LocalDate date) {
+		return isBusinessDay(date, null);
+	}
+
+	/**
+	 * Shows if the date is neither on a weekend nor a holiday of the type
+	 * within this region.
+	 *
+	 * @param date the date to check
+	 * @param holidayType the type of holiday. NULL considers any.
+	 * @return is a business day in this region
+	 */
+	public boolean isBusinessDay(LocalDate date, HolidayType holidayType) {
+		return manager.isBusinessDay(hierarchy, date, holidayType);
+	}
+
+	/**
+	 * Returns the n-th business day after the date for positive and before the
+	 * date for negative amounts.
+	 *
+	 * @param date the date to start from
+	 * @param businessDays the amount of business days to add
+	 * @return the resulting business day
+	 * @see HolidayManager#addBusinessDays(LocalDate, int, HolidayType, String...)
+	 */
+	public LocalDate addBusinessDays(LocalDate date, int businessDays) {
+		return addBusinessDays(date, businessDays, null);
+	}
+
+	/**
+	 * Returns the n-th business day after the date for positive and before the
+	 * date for negative amounts.
+	 *
+	 * @param date the date to start from
+	 * @param businessDays the amount of business days to add
+	 * @param holidayType the type of holiday. NULL considers any.
+	 * @return the resulting business day
+	 * @see HolidayManager#addBusinessDays(LocalDate, int, HolidayType, String...)
+	 */
+	public LocalDate addBusinessDays(LocalDate date, int businessDays, HolidayType holidayType) {
+		return manager.addBusinessDays(hierarchy, date, businessDays, holidayType);
+	}
+
+	/**
+	 * Counts the business days after the start date up to and including the
+	 * end date.
+	 *
+	 * @param startDateExclusive the start of the interval, exclusive
+	 * @param endDateInclusive the end of the interval, inclusive
+	 * @return the number of business days, negative if the end is before the
+	 *         start
+	 */
+	public int countBusinessDays(LocalDate startDateExclusive, LocalDate endDateInclusive) {
+		return countBusinessDays(startDateExclusive, endDateInclusive, null);
+	}
+
+	/**
+	 * Counts the business days after the start date up to and including the
+	 * end date.
+	 *
+	 * @param startDateExclusive the start of the interval, exclusive
+	 * @param endDateInclusive the end of the interval, inclusive
+	 * @param holidayType the type of holiday. NULL considers any.
+	 * @return the number of business days, negative if the end is before the
+	 *         start
+	 */
+	public int countBusinessDays(LocalDate startDateExclusive, LocalDate endDateInclusive,
+			HolidayType holidayType) {
+		return manager.countBusinessDays(hierarchy, startDateExclusive, endDateInclusive, holidayType);
+	}
+
+	/**
+	 * Returns the holidays of this region for the year.
+	 *
+	 * @param year the year to return the holidays for
+	 * @return the unmodifiable holidays of the year
+	 */
+	public Set<Holiday> getHolidays(int year) {
+		return manager.getHolidayYearIndex(hierarchy, year).getHolidays();
+	}
+
+	/**
+	 * Returns the holidays of this region within the interval.
+	 *
+	 * @param startDateInclusive the start of the interval, inclusive
+	 * @param endDateInclusive the end of the interval, inclusive
+	 * @return the holidays within the interval
+	 */
+	public Set<Holiday> getHolidays(LocalDate startDateInclusive, LocalDate endDateInclusive) {
+		Objects.requireNonNull(startDateInclusive, "startDateInclusive is null");
+		Objects.requireNonNull(endDateInclusive, "endDateInclusive is null");
+		Set<Holiday> holidays = new HashSet<>();
+		for (int year = startDateInclusive.getYear(); year <= endDateInclusive.getYear(); year++) {
+			for (Holiday h : manager.getHolidayYearIndex(hierarchy, year).getHolidays()) {
+				if (!startDateInclusive.isAfter(h.getDate()) && !endDateInclusive.isBefore(h.getDate())) {
+					holidays.add(h);
+				}
+			}
+		}
+		return holidays;
+	}
+
+	/**
+	 * Returns the holidays of this region within the interval as lazily
+	 * evaluated stream in date order.
+	 *
+	 * @param startDateInclusive the start of the interval, inclusive
+	 * @param endDateInclusive the end of the interval, inclusive
+	 * @return the ordered stream of holidays within the interval
+	 * @see HolidayManager#holidays(LocalDate, LocalDate, String...)
+	 */
+	public Stream<Holiday> holidays(LocalDate startDateInclusive, LocalDate endDateInclusive) {
+		return manager.holidays(hierarchy, startDateInclusive, endDateInclusive);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " - " + manager.getManagerParameter() + " " + hierarchy;
+	}
+
+}
@@ -0,0 +1,65 @@
+package de.jollyday.caching;
+
+import java.util.Arrays;
+
+/**
+ * Interned key of a calendar hierarchy path i.e. {"us", "ny"}. Keys are
+ * created by a {@link HolidayYearCache} which guarantees that the same path is
+ * always represented by the same instance and a unique id.
+ */
+public final class HierarchyKey {
+
+	/**
+	 * The unique id within the creating cache.
+	 */
+	private final int id;
+	/**
+	 * The hierarchy path.
+	 */
+	private final String[] path;
+	/**
+	 * The hash of the hierarchy path.
+	 */
+	private final int pathHash;
+
+	HierarchyKey(int id, String[] path) {
+		this.id = id;
+		this.path = path;
+		this.pathHash = Arrays.hashCode(path);
+	}
+
+	/**
+	 * @return the unique id of this key within its cache
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * @return a copy of the hierarchy path
+	 */
+	public String[] getPath() {
+		return path.clone();
+	}
+
+	/**
+	 * Shows if this key represents the provided hierarchy path.
+	 *
+	 * @param otherPathHash the hash of the path to compare with
+	 * @param otherPath the path to compare with
+	 * @return the paths are equal
+	 */
+	boolean matches(int otherPathHash, String[] otherPath) {
+		return pathHash == otherPathHash && Arrays.equals(path, otherPath);
+	}
+
+	int getPathHash() {
+		return pathHash;
+	}
+
+	@Override
+	public String toString() {
+		return String.join("/", path);
+	}
+
+}
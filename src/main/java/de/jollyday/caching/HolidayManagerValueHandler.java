@@ -54,9 +54,7 @@ public class HolidayManagerValueHandler implements Cache.ValueHandler<HolidayMan
 	 */
 	private HolidayManager instantiateManagerImpl(String managerImplClassName) {
 		try {
-			Class<?> managerImplClass = classLoadingUtil.loadClass(managerImplClassName);
-			Object managerImplObject = managerImplClass.getDeclaredConstructor().newInstance();
-			return HolidayManager.class.cast(managerImplObject);
+			return classLoadingUtil.createInstance(HolidayManager.class, managerImplClassName);
 		} catch (Exception e) {
 			throw new IllegalStateException("Cannot create manager class " + managerImplClassName, e);
 		}
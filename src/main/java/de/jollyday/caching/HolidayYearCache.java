@@ -0,0 +1,393 @@
+package de.jollyday.caching;
+
+import de.jollyday.CacheStatistics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Cache for the indexed holidays of a manager keyed by an interned
+ * {@link HierarchyKey} and the year. Both the hierarchy keys and the cached
+ * years are kept in open addressing tables which are read without locking, so
+ * a cache hit does not allocate. Writes are synchronized and publish a new
+ * table whenever it has to grow.
+ * <p>
+ * The number of cached years can be bounded. When the maximum size is reached
+ * an entry is evicted using the CLOCK algorithm, an approximation of LRU: new
+ * entries and cache hits mark an entry as referenced and the clock hand evicts
+ * the first entry which was not referenced since its last pass.
+ */
+public class HolidayYearCache {
+
+	/**
+	 * Creates the indexed holidays for a hierarchy and year.
+	 */
+	public interface Loader {
+		HolidayYearIndex load(HierarchyKey key, int year);
+	}
+
+	/**
+	 * Maps a hierarchy path to the canonical path the holidays are computed
+	 * for, i.e. {"US", "NY", "unknown"} to {"ny"}. Returns the provided array
+	 * if it is canonical already.
+	 */
+	public interface PathResolver {
+		String[] resolve(String[] path);
+	}
+
+	/**
+	 * Initial size of the tables. Has to be a power of two.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final Loader loader;
+	private final PathResolver pathResolver;
+	/**
+	 * The key for the empty hierarchy path.
+	 */
+	private final HierarchyKey rootKey = new HierarchyKey(0, new String[0]);
+	/**
+	 * Interned hierarchy keys by path hash. Replaced on every insert.
+	 */
+	private volatile HierarchyKey[] keys = new HierarchyKey[INITIAL_CAPACITY];
+	private int keyCount = 1;
+	/**
+	 * The cached years by composite key.
+	 */
+	private volatile AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+	private int size;
+	/**
+	 * The maximum number of cached years.
+	 */
+	private int maximumSize = Integer.MAX_VALUE;
+	/**
+	 * The table slot to continue the search for an entry to evict at.
+	 */
+	private int clockHand;
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder loadCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+	private long evictionCount;
+
+	/**
+	 * Creates a cache which uses every path as it is.
+	 *
+	 * @param loader creates the values on cache misses
+	 */
+	public HolidayYearCache(Loader loader) {
+		this(loader, path -> path);
+	}
+
+	/**
+	 * @param loader creates the values on cache misses
+	 * @param pathResolver maps the paths to the canonical paths to intern
+	 */
+	public HolidayYearCache(Loader loader, PathResolver pathResolver) {
+		this.loader = loader;
+		this.pathResolver = pathResolver;
+	}
+
+	/**
+	 * Returns the interned key for the canonical path of the hierarchy path.
+	 * Only canonical paths are interned, so the number of keys is bounded by
+	 * the canonical paths.
+	 *
+	 * @param path the hierarchy path, i.e. {"us", "ny"}
+	 * @return the key for the canonical path
+	 */
+	public HierarchyKey key(String... path) {
+		if (path == null || path.length == 0) {
+			return rootKey;
+		}
+		HierarchyKey key = find(path);
+		if (key != null) {
+			return key;
+		}
+		String[] canonicalPath = pathResolver.resolve(path);
+		if (canonicalPath == null || canonicalPath.length == 0) {
+			return rootKey;
+		}
+		if (canonicalPath != path) {
+			key = find(canonicalPath);
+			if (key != null) {
+				return key;
+			}
+		}
+		return intern(Arrays.hashCode(canonicalPath), canonicalPath);
+	}
+
+	private HierarchyKey find(String[] path) {
+		int pathHash = Arrays.hashCode(path);
+		HierarchyKey[] table = keys;
+		int mask = table.length - 1;
+		for (int i = spread(pathHash) & mask;; i = (i + 1) & mask) {
+			HierarchyKey key = table[i];
+			if (key == null || key.matches(pathHash, path)) {
+				return key;
+			}
+		}
+	}
+
+	/**
+	 * Returns the indexed holidays for the hierarchy and year. Loads them if
+	 * they are not cached yet.
+	 *
+	 * @param key the hierarchy key created by this cache
+	 * @param year the year
+	 * @return the eventually cached holidays
+	 */
+	public HolidayYearIndex get(HierarchyKey key, int year) {
+		long compositeKey = compositeKey(key, year);
+		Entry entry = find(entries, compositeKey);
+		if (entry != null) {
+			hitCount.increment();
+			if (!entry.referenced) {
+				entry.referenced = true;
+			}
+			return entry.value;
+		}
+		missCount.increment();
+		return put(compositeKey, load(key, year));
+	}
+
+	private HolidayYearIndex load(HierarchyKey key, int year) {
+		long start = System.nanoTime();
+		try {
+			return loader.load(key, year);
+		} finally {
+			loadCount.increment();
+			totalLoadTime.add(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Calls the action with the hierarchy key and year of every cached entry.
+	 *
+	 * @param action the action to call
+	 */
+	public void forEachEntry(ObjIntConsumer<HierarchyKey> action) {
+		// entries are read before the keys which were interned before them
+		AtomicReferenceArray<Entry> table = entries;
+		Map<Integer, HierarchyKey> keysById = new HashMap<>();
+		keysById.put(rootKey.getId(), rootKey);
+		for (HierarchyKey key : keys) {
+			if (key != null) {
+				keysById.put(key.getId(), key);
+			}
+		}
+		for (int i = 0; i < table.length(); i++) {
+			Entry entry = table.get(i);
+			if (entry != null) {
+				action.accept(keysById.get((int) (entry.key >>> 32)), (int) entry.key);
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache. Interned keys and the statistics are kept.
+	 */
+	public synchronized void clear() {
+		entries = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+		size = 0;
+		clockHand = 0;
+	}
+
+	/**
+	 * Sets the maximum number of cached years and evicts entries if the cache
+	 * is larger.
+	 *
+	 * @param maximumSize the maximum number of cached years. Zero or less
+	 *            disables the limit.
+	 */
+	public synchronized void setMaximumSize(int maximumSize) {
+		this.maximumSize = maximumSize > 0 ? maximumSize : Integer.MAX_VALUE;
+		AtomicReferenceArray<Entry> table = entries;
+		while (size > this.maximumSize) {
+			evict(table);
+		}
+	}
+
+	/**
+	 * @return the maximum number of cached years
+	 */
+	public synchronized int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return a snapshot of the statistics of this cache
+	 */
+	public CacheStatistics getStatistics() {
+		long evictions;
+		int currentSize;
+		synchronized (this) {
+			evictions = evictionCount;
+			currentSize = size;
+		}
+		return new CacheStatistics(hitCount.sum(), missCount.sum(), loadCount.sum(), totalLoadTime.sum(), evictions,
+				currentSize);
+	}
+
+	/**
+	 * @return the number of cached years
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	private synchronized HierarchyKey intern(int pathHash, String[] path) {
+		HierarchyKey[] table = keys;
+		int mask = table.length - 1;
+		for (int i = spread(pathHash) & mask; table[i] != null; i = (i + 1) & mask) {
+			if (table[i].matches(pathHash, path)) {
+				return table[i];
+			}
+		}
+		HierarchyKey key = new HierarchyKey(keyCount++, path.clone());
+		HierarchyKey[] newTable = table.length < keyCount * 2 ? new HierarchyKey[table.length * 2] : table.clone();
+		if (newTable.length != table.length) {
+			for (HierarchyKey existing : table) {
+				if (existing != null) {
+					insert(newTable, existing);
+				}
+			}
+		}
+		insert(newTable, key);
+		keys = newTable;
+		return key;
+	}
+
+	private static void insert(HierarchyKey[] table, HierarchyKey key) {
+		int mask = table.length - 1;
+		int i = spread(key.getPathHash()) & mask;
+		while (table[i] != null) {
+			i = (i + 1) & mask;
+		}
+		table[i] = key;
+	}
+
+	private synchronized HolidayYearIndex put(long compositeKey, HolidayYearIndex value) {
+		AtomicReferenceArray<Entry> table = entries;
+		Entry existing = find(table, compositeKey);
+		if (existing != null) {
+			return existing.value;
+		}
+		if (size >= maximumSize) {
+			evict(table);
+		}
+		if ((size + 1) * 2 > table.length()) {
+			table = resize(table);
+			clockHand = 0;
+		}
+		insert(table, new Entry(compositeKey, value));
+		size++;
+		entries = table;
+		return value;
+	}
+
+	/**
+	 * Moves the clock hand to the next entry which was not referenced since
+	 * the last pass and removes it. Referenced entries on the way lose their
+	 * mark.
+	 */
+	private void evict(AtomicReferenceArray<Entry> table) {
+		int mask = table.length() - 1;
+		for (;; clockHand = (clockHand + 1) & mask) {
+			Entry entry = table.get(clockHand);
+			if (entry == null) {
+				continue;
+			}
+			if (entry.referenced) {
+				entry.referenced = false;
+			} else {
+				remove(table, clockHand);
+				size--;
+				evictionCount++;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Removes the entry at the slot and shifts the following entries of the
+	 * probe sequence back, so lookups never have to skip deleted slots.
+	 * Concurrent readers may miss an entry while it is shifted, which results
+	 * in a regular cache miss.
+	 */
+	private static void remove(AtomicReferenceArray<Entry> table, int slot) {
+		int mask = table.length() - 1;
+		int free = slot;
+		for (int i = (slot + 1) & mask;; i = (i + 1) & mask) {
+			Entry entry = table.get(i);
+			if (entry == null) {
+				break;
+			}
+			int home = spread(entry.key) & mask;
+			boolean reachable = free <= i ? free < home && home <= i : free < home || home <= i;
+			if (!reachable) {
+				table.set(free, entry);
+				free = i;
+			}
+		}
+		table.set(free, null);
+	}
+
+	private static AtomicReferenceArray<Entry> resize(AtomicReferenceArray<Entry> table) {
+		AtomicReferenceArray<Entry> newTable = new AtomicReferenceArray<>(table.length() * 2);
+		for (int i = 0; i < table.length(); i++) {
+			Entry entry = table.get(i);
+			if (entry != null) {
+				insert(newTable, entry);
+			}
+		}
+		return newTable;
+	}
+
+	private static void insert(AtomicReferenceArray<Entry> table, Entry entry) {
+		int mask = table.length() - 1;
+		int i = spread(entry.key) & mask;
+		while (table.get(i) != null) {
+			i = (i + 1) & mask;
+		}
+		table.set(i, entry);
+	}
+
+	private static Entry find(AtomicReferenceArray<Entry> table, long compositeKey) {
+		int mask = table.length() - 1;
+		for (int i = spread(compositeKey) & mask;; i = (i + 1) & mask) {
+			Entry entry = table.get(i);
+			if (entry == null || entry.key == compositeKey) {
+				return entry;
+			}
+		}
+	}
+
+	private static long compositeKey(HierarchyKey key, int year) {
+		return ((long) key.getId() << 32) | (year & 0xFFFFFFFFL);
+	}
+
+	private static int spread(long hash) {
+		long h = hash * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private static final class Entry {
+		private final long key;
+		private final HolidayYearIndex value;
+		/**
+		 * Set on creation and cache hits, cleared by the passing clock hand.
+		 */
+		private volatile boolean referenced = true;
+
+		private Entry(long key, HolidayYearIndex value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+}
@@ -0,0 +1,460 @@
+package de.jollyday.caching;
+
+import de.jollyday.Holiday;
+import de.jollyday.HolidayType;
+import de.jollyday.util.CalendarUtil;
+import de.jollyday.util.ImmutableHolidaySet;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * The cached holidays of one year and hierarchy. Next to the holidays
+ * themselves it keeps a bitmap with one bit per day of the year for each
+ * {@link HolidayType}, so checking a date is a single array read and bit test.
+ * These bitmaps contain the holidays computed for the year, just as
+ * {@link #getHolidays()}.
+ * <p>
+ * Searching, streaming and business day arithmetic instead consider every
+ * holiday dated within the year, including those the rules of the adjacent
+ * years move into it, i.e. New Year's Day observed on December 31st. They are
+ * taken from the adjacent holidays supplier and indexed on first use.
+ * <p>
+ * For business day arithmetic the index also keeps the weekend days of the
+ * year as defined by the weekend mask and lazily builds the cumulative number of business days per day of
+ * the year. Counting business days between two days of the year is then a
+ * subtraction, finding the n-th business day a binary search.
+ */
+public final class HolidayYearIndex {
+
+	/**
+	 * Number of words to hold one bit for each day of a leap year.
+	 */
+	private static final int WORDS = (366 + Long.SIZE - 1) / Long.SIZE;
+	/**
+	 * The holiday types by ordinal.
+	 */
+	private static final HolidayType[] TYPES = HolidayType.values();
+	/**
+	 * The weekend mask containing every day of the week.
+	 */
+	private static final int ALL_DAYS = CalendarUtil.createWeekendMask(DayOfWeek.values());
+
+	/**
+	 * The indexed year.
+	 */
+	private final int year;
+	/**
+	 * The holidays as computed for the year.
+	 */
+	private final Set<Holiday> holidays;
+	/**
+	 * Day of year bitmap for holidays of any type.
+	 */
+	private final long[] anyType = new long[WORDS];
+	/**
+	 * Day of year bitmaps by holiday type ordinal.
+	 */
+	private final long[][] byType = new long[TYPES.length][WORDS];
+	/**
+	 * Supplies the holidays computed for the previous and the next year.
+	 */
+	private final Supplier<? extends Collection<Holiday>> adjacentHolidays;
+	/**
+	 * The holidays dated within the year, created on first use.
+	 */
+	private volatile DatedHolidays datedHolidays;
+	/**
+	 * The weekend days of the year by {@link DayOfWeek} ordinal.
+	 */
+	private final int weekendMask;
+	/**
+	 * Day of year bitmap of the weekend days.
+	 */
+	private final long[] weekend = new long[WORDS];
+	/**
+	 * The number of days of the year.
+	 */
+	private final int lengthOfYear;
+	/**
+	 * The epoch day of the first day of the year.
+	 */
+	private final long firstEpochDay;
+	/**
+	 * The cumulative business days by holiday type ordinal. The last slot
+	 * holds the counts when considering holidays of any type. Each array holds
+	 * at index n the number of business days from the first to the n-th day of
+	 * the year.
+	 */
+	private final AtomicReferenceArray<char[]> businessDayCounts = new AtomicReferenceArray<>(TYPES.length + 1);
+
+	/**
+	 * Creates the index for the holidays of the year using Saturday and Sunday
+	 * as weekend.
+	 *
+	 * @param year the year the holidays were computed for
+	 * @param holidays the holidays of the year
+	 */
+	public HolidayYearIndex(int year, Set<Holiday> holidays) {
+		this(year, holidays, CalendarUtil.SATURDAY_SUNDAY_WEEKEND);
+	}
+
+	/**
+	 * Creates the index for the holidays of the year.
+	 *
+	 * @param year the year the holidays were computed for
+	 * @param holidays the holidays of the year
+	 * @param weekendMask the weekend days of the year as created by
+	 *            {@link CalendarUtil#createWeekendMask(java.time.DayOfWeek...)}
+	 * @throws IllegalArgumentException if every day of the week is a weekend
+	 *             day
+	 */
+	public HolidayYearIndex(int year, Set<Holiday> holidays, int weekendMask) {
+		this(year, holidays, Collections::<Holiday> emptySet, weekendMask);
+	}
+
+	/**
+	 * Creates the index for the holidays of the year.
+	 *
+	 * @param year the year the holidays were computed for
+	 * @param holidays the holidays of the year
+	 * @param adjacentHolidays supplies the holidays computed for the previous
+	 *            and the next year, called once when searching or counting
+	 *            business days first. Those within the indexed year are
+	 *            considered by these.
+	 * @param weekendMask the weekend days of the year as created by
+	 *            {@link CalendarUtil#createWeekendMask(java.time.DayOfWeek...)}
+	 * @throws IllegalArgumentException if every day of the week is a weekend
+	 *             day
+	 */
+	public HolidayYearIndex(int year, Set<Holiday> holidays, Supplier<? extends Collection<Holiday>> adjacentHolidays,
+			int weekendMask) {
+		if ((weekendMask & ALL_DAYS) == ALL_DAYS) {
+			throw new IllegalArgumentException("The weekend of " + year + " must not contain every day of the week.");
+		}
+		this.year = year;
+		this.holidays = holidays;
+		this.adjacentHolidays = adjacentHolidays;
+		this.weekendMask = weekendMask;
+		LocalDate firstDay = LocalDate.of(year, 1, 1);
+		this.lengthOfYear = firstDay.lengthOfYear();
+		this.firstEpochDay = firstDay.toEpochDay();
+		DayOfWeek dayOfWeek = firstDay.getDayOfWeek();
+		for (int day = 0; day < lengthOfYear; day++, dayOfWeek = dayOfWeek.plus(1)) {
+			if (CalendarUtil.isWeekend(dayOfWeek, weekendMask)) {
+				weekend[day >>> 6] |= 1L << day;
+			}
+		}
+		index(year, holidays, anyType, byType);
+	}
+
+	/**
+	 * Sets the bits of the holidays dated within the year.
+	 *
+	 * @return the holidays dated within the year
+	 */
+	private static List<Holiday> index(int year, Collection<Holiday> holidays, long[] anyType, long[][] byType) {
+		List<Holiday> holidaysOfYear = new ArrayList<>(holidays.size());
+		for (Holiday holiday : holidays) {
+			LocalDate date = holiday.getDate();
+			if (date.getYear() != year) {
+				continue;
+			}
+			holidaysOfYear.add(holiday);
+			int day = date.getDayOfYear() - 1;
+			anyType[day >>> 6] |= 1L << day;
+			if (holiday.getType() != null) {
+				byType[holiday.getType().ordinal()][day >>> 6] |= 1L << day;
+			}
+		}
+		return holidaysOfYear;
+	}
+
+	private DatedHolidays getDatedHolidays() {
+		DatedHolidays dated = datedHolidays;
+		if (dated == null) {
+			Set<Holiday> all = new HashSet<>(holidays);
+			all.addAll(adjacentHolidays.get());
+			dated = new DatedHolidays(year, all);
+			datedHolidays = dated;
+		}
+		return dated;
+	}
+
+	/**
+	 * @return the indexed year
+	 */
+	public int getYear() {
+		return year;
+	}
+
+	/**
+	 * @return the holidays as computed for the year, without those of the
+	 *         adjacent years
+	 */
+	public Set<Holiday> getHolidays() {
+		return holidays;
+	}
+
+	/**
+	 * Shows if there is a holiday of the type on the date. Only the holidays
+	 * computed for the year are considered.
+	 *
+	 * @param date the date to check
+	 * @param holidayType the type of holiday. NULL checks any.
+	 * @return the date is a holiday
+	 */
+	public boolean contains(LocalDate date, HolidayType holidayType) {
+		return date.getYear() == year && contains(date.getDayOfYear(), holidayType);
+	}
+
+	/**
+	 * Shows if there is a holiday of the type on the day of the indexed year.
+	 *
+	 * @param dayOfYear the day of year starting at 1
+	 * @param holidayType the type of holiday. NULL checks any.
+	 * @return the day is a holiday
+	 */
+	public boolean contains(int dayOfYear, HolidayType holidayType) {
+		return isSet(holidayType == null ? anyType : byType[holidayType.ordinal()], dayOfYear);
+	}
+
+	/**
+	 * Shows if there is a holiday of the type on the epoch day.
+	 *
+	 * @param epochDay the epoch day to check
+	 * @param holidayType the type of holiday. NULL checks any.
+	 * @return there is a holiday on the epoch day. FALSE if the epoch day is
+	 *         not within the indexed year.
+	 */
+	public boolean contains(long epochDay, HolidayType holidayType) {
+		return containsEpochDay(epochDay) && contains((int) (epochDay - firstEpochDay) + 1, holidayType);
+	}
+
+	/**
+	 * @param epochDay the epoch day to check
+	 * @return the epoch day is within the indexed year
+	 */
+	public boolean containsEpochDay(long epochDay) {
+		return epochDay >= firstEpochDay && epochDay < firstEpochDay + lengthOfYear;
+	}
+
+	/**
+	 * Returns the first holiday of the type dated within the indexed year
+	 * which is on or after the epoch day.
+	 *
+	 * @param epochDay the epoch day to start the search at
+	 * @param holidayType the type of holiday. NULL returns any.
+	 * @return the holiday or NULL if there is none until the end of the year
+	 */
+	public Holiday findFirstOnOrAfter(long epochDay, HolidayType holidayType) {
+		Holiday[] sortedHolidays = getDatedHolidays().sortedHolidays;
+		for (int i = lowerBound(epochDay); i < sortedHolidays.length; i++) {
+			if (holidayType == null || sortedHolidays[i].getType() == holidayType) {
+				return sortedHolidays[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the last holiday of the type dated within the indexed year which
+	 * is on or before the epoch day.
+	 *
+	 * @param epochDay the epoch day to start the search at
+	 * @param holidayType the type of holiday. NULL returns any.
+	 * @return the holiday or NULL if there is none since the start of the year
+	 */
+	public Holiday findLastOnOrBefore(long epochDay, HolidayType holidayType) {
+		Holiday[] sortedHolidays = getDatedHolidays().sortedHolidays;
+		for (int i = lowerBound(epochDay + 1) - 1; i >= 0; i--) {
+			if (holidayType == null || sortedHolidays[i].getType() == holidayType) {
+				return sortedHolidays[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the number of holidays dated within the indexed year
+	 */
+	public int getSortedHolidayCount() {
+		return getDatedHolidays().sortedHolidays.length;
+	}
+
+	/**
+	 * @param position the position within the holidays sorted by date
+	 * @return the holiday at the position
+	 */
+	public Holiday getSortedHoliday(int position) {
+		return getDatedHolidays().sortedHolidays[position];
+	}
+
+	/**
+	 * @param position the position within the holidays sorted by date
+	 * @return the epoch day of the holiday at the position
+	 */
+	public long getSortedEpochDay(int position) {
+		return getDatedHolidays().epochDays[position];
+	}
+
+	/**
+	 * @param epochDay the epoch day to search for
+	 * @return the position of the first sorted holiday on or after the epoch
+	 *         day
+	 */
+	public int lowerBound(long epochDay) {
+		long[] epochDays = getDatedHolidays().epochDays;
+		int low = 0;
+		int high = epochDays.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (epochDays[middle] < epochDay) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * @return the number of days of the indexed year
+	 */
+	public int getLengthOfYear() {
+		return lengthOfYear;
+	}
+
+	/**
+	 * @return the weekend days of the indexed year by {@link DayOfWeek} ordinal
+	 */
+	public int getWeekendMask() {
+		return weekendMask;
+	}
+
+	/**
+	 * Shows if the day of the indexed year is on a weekend.
+	 *
+	 * @param dayOfYear the day of year starting at 1
+	 * @return the day is on a weekend
+	 */
+	public boolean isWeekend(int dayOfYear) {
+		return isSet(weekend, dayOfYear);
+	}
+
+	/**
+	 * Shows if the day of the indexed year is neither on a weekend nor a
+	 * holiday of the type dated on it.
+	 *
+	 * @param dayOfYear the day of year starting at 1
+	 * @param holidayType the type of holiday. NULL considers any.
+	 * @return the day is a business day
+	 */
+	public boolean isBusinessDay(int dayOfYear, HolidayType holidayType) {
+		DatedHolidays dated = getDatedHolidays();
+		return !isWeekend(dayOfYear)
+				&& !isSet(holidayType == null ? dated.anyType : dated.byType[holidayType.ordinal()], dayOfYear);
+	}
+
+	/**
+	 * Returns the number of business days from the first day of the year up to
+	 * and including the day of the year.
+	 *
+	 * @param dayOfYear the day of year starting at 1 or 0 for none
+	 * @param holidayType the type of holiday. NULL considers any.
+	 * @return the number of business days
+	 */
+	public int countBusinessDays(int dayOfYear, HolidayType holidayType) {
+		return getBusinessDayCounts(holidayType)[dayOfYear];
+	}
+
+	/**
+	 * @param holidayType the type of holiday. NULL considers any.
+	 * @return the number of business days within the indexed year
+	 */
+	public int countBusinessDays(HolidayType holidayType) {
+		return countBusinessDays(lengthOfYear, holidayType);
+	}
+
+	/**
+	 * Returns the day of year of the n-th business day of the indexed year.
+	 *
+	 * @param n the number of the business day starting at 1
+	 * @param holidayType the type of holiday. NULL considers any.
+	 * @return the day of year starting at 1
+	 * @throws IllegalArgumentException if the year does not have n business days
+	 */
+	public int getBusinessDay(int n, HolidayType holidayType) {
+		char[] counts = getBusinessDayCounts(holidayType);
+		if (n < 1 || n > counts[lengthOfYear]) {
+			throw new IllegalArgumentException("Year " + year + " does not have " + n + " business days.");
+		}
+		int low = 1;
+		int high = lengthOfYear;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (counts[middle] < n) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private char[] getBusinessDayCounts(HolidayType holidayType) {
+		int slot = holidayType == null ? TYPES.length : holidayType.ordinal();
+		char[] counts = businessDayCounts.get(slot);
+		if (counts == null) {
+			counts = new char[lengthOfYear + 1];
+			for (int day = 1; day <= lengthOfYear; day++) {
+				counts[day] = (char) (counts[day - 1] + (isBusinessDay(day, holidayType) ? 1 : 0));
+			}
+			businessDayCounts.set(slot, counts);
+		}
+		return counts;
+	}
+
+	private static boolean isSet(long[] bitmap, int dayOfYear) {
+		int day = dayOfYear - 1;
+		return (bitmap[day >>> 6] & (1L << day)) != 0;
+	}
+
+	/**
+	 * The holidays dated within the year, including those computed for the
+	 * adjacent years.
+	 */
+	private static final class DatedHolidays {
+
+		private final long[] anyType = new long[WORDS];
+		private final long[][] byType = new long[TYPES.length][WORDS];
+		/**
+		 * The holidays sorted by date.
+		 */
+		private final Holiday[] sortedHolidays;
+		/**
+		 * The epoch days of the sorted holidays.
+		 */
+		private final long[] epochDays;
+
+		private DatedHolidays(int year, Collection<Holiday> holidays) {
+			List<Holiday> holidaysOfYear = index(year, holidays, anyType, byType);
+			holidaysOfYear.sort(ImmutableHolidaySet.ORDER);
+			this.sortedHolidays = holidaysOfYear.toArray(new Holiday[0]);
+			this.epochDays = new long[sortedHolidays.length];
+			for (int i = 0; i < sortedHolidays.length; i++) {
+				epochDays[i] = sortedHolidays[i].getDate().toEpochDay();
+			}
+		}
+
+	}
+
+}
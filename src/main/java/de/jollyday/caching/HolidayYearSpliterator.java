@@ -0,0 +1,77 @@
+package de.jollyday.caching;
+
+import de.jollyday.Holiday;
+
+import java.time.LocalDate;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the cached holidays of a hierarchy within an interval in
+ * date order. The years are retrieved from the {@link HolidayYearCache} one
+ * at a time while advancing, so short-circuiting streams only compute the
+ * years they actually consume.
+ */
+public final class HolidayYearSpliterator implements Spliterator<Holiday> {
+
+	private final HolidayYearCache cache;
+	private final HierarchyKey key;
+	private final long startEpochDay;
+	private final long endEpochDay;
+	private final int endYear;
+	private int year;
+	private HolidayYearIndex index;
+	private int position;
+
+	/**
+	 * @param cache the cache to retrieve the years from
+	 * @param key the hierarchy key created by the cache
+	 * @param startDateInclusive the start of the interval, inclusive
+	 * @param endDateInclusive the end of the interval, inclusive
+	 */
+	public HolidayYearSpliterator(HolidayYearCache cache, HierarchyKey key, LocalDate startDateInclusive,
+			LocalDate endDateInclusive) {
+		this.cache = cache;
+		this.key = key;
+		this.startEpochDay = startDateInclusive.toEpochDay();
+		this.endEpochDay = endDateInclusive.toEpochDay();
+		this.year = startDateInclusive.getYear();
+		this.endYear = endDateInclusive.getYear();
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Holiday> action) {
+		while (year <= endYear) {
+			if (index == null) {
+				index = cache.get(key, year);
+				position = index.lowerBound(startEpochDay);
+			}
+			if (position < index.getSortedHolidayCount() && index.getSortedEpochDay(position) <= endEpochDay) {
+				action.accept(index.getSortedHoliday(position++));
+				return true;
+			}
+			index = null;
+			year++;
+		}
+		return false;
+	}
+
+	/**
+	 * Not splittable as the years have to be computed in order.
+	 */
+	@Override
+	public Spliterator<Holiday> trySplit() {
+		return null;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL | IMMUTABLE;
+	}
+
+}
@@ -20,6 +20,9 @@ import de.jollyday.configuration.impl.DefaultConfigurationProvider;
 import de.jollyday.configuration.impl.URLConfigurationProvider;
 import de.jollyday.util.ClassLoadingUtil;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
 import java.util.logging.Logger;
 
 /**
@@ -35,28 +38,64 @@ public class ConfigurationProviderManager {
 	private ConfigurationProvider defaultConfigurationProvider = new DefaultConfigurationProvider();
 	private ConfigurationProvider urlConfigurationProvider = new URLConfigurationProvider();
 	private ClassLoadingUtil classLoadingUtil = new ClassLoadingUtil();
+	/**
+	 * The properties of all providers, read on first use.
+	 */
+	private volatile ProviderProperties providerProperties;
 
 	/**
 	 * Reads the jollyday configuration from the
 	 * {@link DefaultConfigurationProvider}, the
 	 * {@link URLConfigurationProvider} and any configuration provider specified
-	 * by the system property 'de.jollyday.config.provider'.
+	 * by the system property 'de.jollyday.config.provider'. The properties of
+	 * the providers are read once and read again only if one of the system
+	 * properties 'de.jollyday.config.urls' and 'de.jollyday.config.providers'
+	 * changed or {@link #refresh()} was called.
 	 *
 	 * @param parameter
 	 *            the configuration {@link ManagerParameter} to use
 	 */
 	public void mergeConfigurationProperties(ManagerParameter parameter) {
-		addInternalConfigurationProviderProperties(parameter);
-		addCustomConfigurationProviderProperties(parameter);
+		String configUrls = System.getProperty(ConfigurationProvider.CONFIG_URLS_PROPERTY);
+		String configProviders = System.getProperty(ConfigurationProvider.CONFIG_PROVIDERS_PROPERTY);
+		ProviderProperties current = providerProperties;
+		if (current == null || !Objects.equals(current.configUrls, configUrls)
+				|| !Objects.equals(current.configProviders, configProviders)) {
+			current = new ProviderProperties(configUrls, configProviders, readProviderProperties(configProviders));
+			providerProperties = current;
+		}
+		parameter.mergeProperties(current.properties);
 	}
 
-	private void addInternalConfigurationProviderProperties(ManagerParameter parameter) {
-		parameter.mergeProperties(urlConfigurationProvider.getProperties());
-		parameter.mergeProperties(defaultConfigurationProvider.getProperties());
+	/**
+	 * Discards the properties read from the providers so that they are read
+	 * again on the next merge.
+	 */
+	public void refresh() {
+		providerProperties = null;
 	}
 
-	private void addCustomConfigurationProviderProperties(ManagerParameter parameter) {
-		String providersStrList = System.getProperty(ConfigurationProvider.CONFIG_PROVIDERS_PROPERTY);
+	/**
+	 * Reads the properties of all providers. Properties of earlier providers
+	 * take precedence.
+	 */
+	private Properties readProviderProperties(String configProviders) {
+		Properties properties = new Properties();
+		addAbsent(properties, urlConfigurationProvider.getProperties());
+		addAbsent(properties, defaultConfigurationProvider.getProperties());
+		addCustomConfigurationProviderProperties(properties, configProviders);
+		return properties;
+	}
+
+	private static void addAbsent(Properties properties, Properties providerProperties) {
+		if (providerProperties != null) {
+			for (Map.Entry<Object, Object> entry : providerProperties.entrySet()) {
+				properties.putIfAbsent(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	private void addCustomConfigurationProviderProperties(Properties properties, String providersStrList) {
 		if (providersStrList != null) {
 			String[] providersClassNames = providersStrList.split(",");
 			for (String providerClassName : providersClassNames) {
@@ -66,7 +105,7 @@ public class ConfigurationProviderManager {
 					Class<?> providerClass = Class.forName(providerClassName.trim(), true,
 							classLoadingUtil.getClassloader());
 					ConfigurationProvider configurationProvider = ConfigurationProvider.class.cast(providerClass.getDeclaredConstructor().newInstance());
-					parameter.mergeProperties(configurationProvider.getProperties());
+					addAbsent(properties, configurationProvider.getProperties());
 				} catch (Exception e) {
 					LOG.warning("Cannot load configuration from provider class '" + providerClassName + "'. "
 							+ e.getClass().getSimpleName() + " (" + e.getMessage() + ").");
@@ -75,4 +114,22 @@ public class ConfigurationProviderManager {
 		}
 	}
 
+	/**
+	 * The merged properties of all providers and the system properties they
+	 * were read with.
+	 */
+	private static final class ProviderProperties {
+
+		private final String configUrls;
+		private final String configProviders;
+		private final Properties properties;
+
+		private ProviderProperties(String configUrls, String configProviders, Properties properties) {
+			this.configUrls = configUrls;
+			this.configProviders = configProviders;
+			this.properties = properties;
+		}
+
+	}
+
 }
@@ -37,8 +37,7 @@ public class ConfigurationDataSourceManager {
 	private ConfigurationDataSource instantiateDataSource(
 			String dataSourceClassName) {
 		try{
-			Class<?> dataSourceClass = classLoadingUtil.loadClass(dataSourceClassName);
-			return ConfigurationDataSource.class.cast(dataSourceClass.getDeclaredConstructor().newInstance());
+			return classLoadingUtil.createInstance(ConfigurationDataSource.class, dataSourceClassName);
 		}catch(Exception e){
 			throw new IllegalStateException("Cannot instantiate datasource instance of "+dataSourceClassName,e);
 		}
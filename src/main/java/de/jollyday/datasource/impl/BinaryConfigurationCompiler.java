@@ -0,0 +1,315 @@
+package de.jollyday.datasource.impl;
+
+import de.jollyday.config.ChristianHoliday;
+import de.jollyday.config.Configuration;
+import de.jollyday.config.EthiopianOrthodoxHoliday;
+import de.jollyday.config.Fixed;
+import de.jollyday.config.FixedWeekdayBetweenFixed;
+import de.jollyday.config.FixedWeekdayInMonth;
+import de.jollyday.config.FixedWeekdayRelativeToFixed;
+import de.jollyday.config.HebrewHoliday;
+import de.jollyday.config.HinduHoliday;
+import de.jollyday.config.Holiday;
+import de.jollyday.config.Holidays;
+import de.jollyday.config.IslamicHoliday;
+import de.jollyday.config.MoveableHoliday;
+import de.jollyday.config.MovingCondition;
+import de.jollyday.config.RelativeToEasterSunday;
+import de.jollyday.config.RelativeToFixed;
+import de.jollyday.config.RelativeToWeekdayInMonth;
+import de.jollyday.config.Weekday;
+import de.jollyday.config.Weekend;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles holiday XML configurations into the binary format read by
+ * {@link BinaryFileDataSource}. Strings are stored once per file in a string
+ * table and enums as ordinals. Runs during the build for all bundled
+ * calendars:
+ *
+ * <pre>
+ * BinaryConfigurationCompiler &lt;schema&gt; &lt;source directory&gt; &lt;target directory&gt;
+ * </pre>
+ *
+ * Every XML file of the source directory is validated against the schema
+ * before it is compiled into a file with the same name and the extension
+ * {@link BinaryFileDataSource#FILE_EXTENSION}.
+ * <p>
+ * It ships with the library on purpose: applications run it the same way to
+ * compile their own configuration files, which {@link BinaryFileDataSource}
+ * then reads instead of the XML files as long as they are up to date. It is
+ * not part of the API, as its package is not exported by the module.
+ */
+public final class BinaryConfigurationCompiler {
+
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final DataOutputStream body;
+
+    private BinaryConfigurationCompiler(OutputStream body) {
+        this.body = new DataOutputStream(body);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3) {
+            throw new IllegalArgumentException(
+                    "Usage: BinaryConfigurationCompiler <schema> <source directory> <target directory>");
+        }
+        Schema schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(new File(args[0]));
+        File[] sources = new File(args[1]).listFiles((dir, name) -> name.endsWith(".xml"));
+        if (sources == null) {
+            throw new IllegalArgumentException("Source directory '" + args[1] + "' does not exist.");
+        }
+        File targetDirectory = new File(args[2]);
+        if (!targetDirectory.isDirectory() && !targetDirectory.mkdirs()) {
+            throw new IOException("Cannot create target directory '" + targetDirectory + "'.");
+        }
+        StaxXmlFileDataSource xmlDataSource = new StaxXmlFileDataSource();
+        for (File source : sources) {
+            Validator validator = schema.newValidator();
+            try {
+                validator.validate(new StreamSource(source));
+            } catch (Exception e) {
+                throw new IllegalStateException("Invalid holiday configuration '" + source + "'.", e);
+            }
+            Configuration configuration;
+            try (InputStream inputStream = new FileInputStream(source)) {
+                configuration = xmlDataSource.readConfiguration(inputStream);
+            }
+            String name = source.getName();
+            File target = new File(targetDirectory,
+                    name.substring(0, name.length() - ".xml".length()) + BinaryFileDataSource.FILE_EXTENSION);
+            try (OutputStream outputStream = new FileOutputStream(target)) {
+                write(configuration, outputStream);
+            }
+        }
+    }
+
+    /**
+     * Writes the configuration in the binary format.
+     *
+     * @param configuration the configuration to write
+     * @param outputStream the stream to write to, left open
+     * @throws IOException if writing fails
+     */
+    public static void write(Configuration configuration, OutputStream outputStream) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        BinaryConfigurationCompiler compiler = new BinaryConfigurationCompiler(body);
+        compiler.writeConfiguration(configuration);
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(BinaryFileDataSource.MAGIC);
+        out.writeShort(BinaryFileDataSource.VERSION);
+        out.writeShort(compiler.strings.size());
+        for (String string : compiler.strings) {
+            out.writeUTF(string);
+        }
+        body.writeTo(out);
+        out.flush();
+    }
+
+    private void writeConfiguration(Configuration configuration) throws IOException {
+        writeString(configuration.getHierarchy());
+        writeString(configuration.getDescription());
+        Holidays holidays = configuration.getHolidays();
+        body.writeBoolean(holidays != null);
+        if (holidays != null) {
+            writeHolidays(holidays);
+        }
+        writeCount(configuration.getWeekend());
+        for (Weekend weekend : configuration.getWeekend()) {
+            writeInteger(weekend.getValidFrom());
+            writeInteger(weekend.getValidTo());
+            writeCount(weekend.getDay());
+            for (Weekday day : weekend.getDay()) {
+                writeEnum(day);
+            }
+        }
+        writeCount(configuration.getSubConfigurations());
+        for (Configuration subConfiguration : configuration.getSubConfigurations()) {
+            writeConfiguration(subConfiguration);
+        }
+    }
+
+    /**
+     * Writes the holidays grouped by kind in the order of the schema.
+     */
+    private void writeHolidays(Holidays holidays) throws IOException {
+        writeCount(holidays.getFixed());
+        for (Fixed fixed : holidays.getFixed()) {
+            writeFixed(fixed);
+        }
+        writeCount(holidays.getRelativeToFixed());
+        for (RelativeToFixed relativeToFixed : holidays.getRelativeToFixed()) {
+            writeHoliday(relativeToFixed);
+            writeInteger(relativeToFixed.getDays());
+            writeEnum(relativeToFixed.getWeekday());
+            writeEnum(relativeToFixed.getWhen());
+            writeOptionalFixed(relativeToFixed.getDate());
+        }
+        writeCount(holidays.getRelativeToWeekdayInMonth());
+        for (RelativeToWeekdayInMonth relativeToWeekdayInMonth : holidays.getRelativeToWeekdayInMonth()) {
+            writeHoliday(relativeToWeekdayInMonth);
+            writeEnum(relativeToWeekdayInMonth.getWeekday());
+            writeEnum(relativeToWeekdayInMonth.getWhen());
+            FixedWeekdayInMonth fixedWeekday = relativeToWeekdayInMonth.getFixedWeekday();
+            body.writeBoolean(fixedWeekday != null);
+            if (fixedWeekday != null) {
+                writeFixedWeekdayInMonth(fixedWeekday);
+            }
+        }
+        writeCount(holidays.getFixedWeekday());
+        for (FixedWeekdayInMonth fixedWeekdayInMonth : holidays.getFixedWeekday()) {
+            writeFixedWeekdayInMonth(fixedWeekdayInMonth);
+        }
+        writeCount(holidays.getChristianHoliday());
+        for (ChristianHoliday christianHoliday : holidays.getChristianHoliday()) {
+            writeHoliday(christianHoliday);
+            writeEnum(christianHoliday.getType());
+            writeEnum(christianHoliday.getChronology());
+            writeMovingConditions(christianHoliday);
+        }
+        writeCount(holidays.getIslamicHoliday());
+        for (IslamicHoliday islamicHoliday : holidays.getIslamicHoliday()) {
+            writeHoliday(islamicHoliday);
+            writeEnum(islamicHoliday.getType());
+        }
+        writeCount(holidays.getFixedWeekdayBetweenFixed());
+        for (FixedWeekdayBetweenFixed fixedWeekdayBetweenFixed : holidays.getFixedWeekdayBetweenFixed()) {
+            writeHoliday(fixedWeekdayBetweenFixed);
+            writeEnum(fixedWeekdayBetweenFixed.getWeekday());
+            writeOptionalFixed(fixedWeekdayBetweenFixed.getFrom());
+            writeOptionalFixed(fixedWeekdayBetweenFixed.getTo());
+        }
+        writeCount(holidays.getFixedWeekdayRelativeToFixed());
+        for (FixedWeekdayRelativeToFixed fixedWeekdayRelativeToFixed : holidays.getFixedWeekdayRelativeToFixed()) {
+            writeHoliday(fixedWeekdayRelativeToFixed);
+            writeEnum(fixedWeekdayRelativeToFixed.getWhich());
+            writeEnum(fixedWeekdayRelativeToFixed.getWeekday());
+            writeEnum(fixedWeekdayRelativeToFixed.getWhen());
+            writeOptionalFixed(fixedWeekdayRelativeToFixed.getDay());
+        }
+        writeCount(holidays.getHinduHoliday());
+        for (HinduHoliday hinduHoliday : holidays.getHinduHoliday()) {
+            writeHoliday(hinduHoliday);
+            writeEnum(hinduHoliday.getType());
+        }
+        writeCount(holidays.getHebrewHoliday());
+        for (HebrewHoliday hebrewHoliday : holidays.getHebrewHoliday()) {
+            writeHoliday(hebrewHoliday);
+            writeString(hebrewHoliday.getType());
+        }
+        writeCount(holidays.getEthiopianOrthodoxHoliday());
+        for (EthiopianOrthodoxHoliday ethiopianOrthodoxHoliday : holidays.getEthiopianOrthodoxHoliday()) {
+            writeHoliday(ethiopianOrthodoxHoliday);
+            writeEnum(ethiopianOrthodoxHoliday.getType());
+        }
+        writeCount(holidays.getRelativeToEasterSunday());
+        for (RelativeToEasterSunday relativeToEasterSunday : holidays.getRelativeToEasterSunday()) {
+            writeHoliday(relativeToEasterSunday);
+            writeEnum(relativeToEasterSunday.getChronology());
+            body.writeInt(relativeToEasterSunday.getDays());
+        }
+    }
+
+    private void writeOptionalFixed(Fixed fixed) throws IOException {
+        body.writeBoolean(fixed != null);
+        if (fixed != null) {
+            writeFixed(fixed);
+        }
+    }
+
+    private void writeFixed(Fixed fixed) throws IOException {
+        writeHoliday(fixed);
+        writeEnum(fixed.getMonth());
+        writeInteger(fixed.getDay());
+        writeMovingConditions(fixed);
+    }
+
+    private void writeFixedWeekdayInMonth(FixedWeekdayInMonth fixedWeekdayInMonth) throws IOException {
+        writeHoliday(fixedWeekdayInMonth);
+        writeEnum(fixedWeekdayInMonth.getWhich());
+        writeEnum(fixedWeekdayInMonth.getWeekday());
+        writeEnum(fixedWeekdayInMonth.getMonth());
+    }
+
+    /**
+     * Writes the attributes common to all holidays.
+     */
+    private void writeHoliday(Holiday holiday) throws IOException {
+        writeInteger(holiday.getValidFrom());
+        writeInteger(holiday.getValidTo());
+        writeString(holiday.getEvery());
+        writeString(holiday.getDescriptionPropertiesKey());
+        writeEnum(holiday.getLocalizedType());
+    }
+
+    private void writeMovingConditions(MoveableHoliday holiday) throws IOException {
+        writeCount(holiday.getMovingCondition());
+        for (MovingCondition movingCondition : holiday.getMovingCondition()) {
+            writeEnum(movingCondition.getSubstitute());
+            writeEnum(movingCondition.getWith());
+            writeEnum(movingCondition.getWeekday());
+        }
+    }
+
+    private void writeCount(Collection<?> values) throws IOException {
+        if (values.size() > 0xFFFF) {
+            throw new IllegalArgumentException("Too many elements: " + values.size());
+        }
+        body.writeShort(values.size());
+    }
+
+    /**
+     * Writes the ordinal shifted by one so that 0 stands for null.
+     */
+    private void writeEnum(Enum<?> value) throws IOException {
+        body.writeByte(value == null ? 0 : value.ordinal() + 1);
+    }
+
+    private void writeInteger(Integer value) throws IOException {
+        body.writeBoolean(value != null);
+        if (value != null) {
+            body.writeInt(value);
+        }
+    }
+
+    /**
+     * Writes the index into the string table shifted by one so that 0 stands
+     * for null.
+     */
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            body.writeShort(0);
+            return;
+        }
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            if (strings.size() == 0xFFFE) {
+                throw new IllegalArgumentException("Too many distinct strings.");
+            }
+            strings.add(value);
+            index = strings.size();
+            stringIndexes.put(value, index);
+        }
+        body.writeShort(index);
+    }
+
+}
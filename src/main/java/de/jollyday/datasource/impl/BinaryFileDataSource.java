@@ -0,0 +1,349 @@
+package de.jollyday.datasource.impl;
+
+import de.jollyday.ManagerParameter;
+import de.jollyday.config.ChristianHoliday;
+import de.jollyday.config.ChristianHolidayType;
+import de.jollyday.config.ChronologyType;
+import de.jollyday.config.Configuration;
+import de.jollyday.config.EthiopianOrthodoxHoliday;
+import de.jollyday.config.EthiopianOrthodoxHolidayType;
+import de.jollyday.config.Fixed;
+import de.jollyday.config.FixedWeekdayBetweenFixed;
+import de.jollyday.config.FixedWeekdayInMonth;
+import de.jollyday.config.FixedWeekdayRelativeToFixed;
+import de.jollyday.config.HebrewHoliday;
+import de.jollyday.config.HinduHoliday;
+import de.jollyday.config.HinduHolidayType;
+import de.jollyday.config.Holiday;
+import de.jollyday.config.HolidayType;
+import de.jollyday.config.Holidays;
+import de.jollyday.config.IslamicHoliday;
+import de.jollyday.config.IslamicHolidayType;
+import de.jollyday.config.Month;
+import de.jollyday.config.MoveableHoliday;
+import de.jollyday.config.MovingCondition;
+import de.jollyday.config.RelativeToEasterSunday;
+import de.jollyday.config.RelativeToFixed;
+import de.jollyday.config.RelativeToWeekdayInMonth;
+import de.jollyday.config.Weekday;
+import de.jollyday.config.Weekend;
+import de.jollyday.config.When;
+import de.jollyday.config.Which;
+import de.jollyday.config.With;
+import de.jollyday.datasource.ConfigurationDataSource;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+
+/**
+ * This {@link ConfigurationDataSource} implementation reads configurations
+ * compiled by {@link BinaryConfigurationCompiler} during the build. The binary
+ * file is looked up next to the XML file with the extension
+ * {@link #FILE_EXTENSION}. If there is none, i.e. for configuration files
+ * provided by the application, or if it is older than the XML file, the XML
+ * file is read by a {@link StaxXmlFileDataSource}.
+ * <p>
+ * Select it by setting <code>configuration.datasource.impl</code> to this class.
+ */
+public class BinaryFileDataSource implements ConfigurationDataSource {
+
+    /**
+     * Extension of the compiled configuration files.
+     */
+    public static final String FILE_EXTENSION = ".bin";
+
+    static final int MAGIC = 0x4A484442;
+    static final int VERSION = 1;
+
+    private static final Weekday[] WEEKDAYS = Weekday.values();
+    private static final Month[] MONTHS = Month.values();
+    private static final When[] WHENS = When.values();
+    private static final Which[] WHICHES = Which.values();
+    private static final With[] WITHS = With.values();
+    private static final HolidayType[] HOLIDAY_TYPES = HolidayType.values();
+    private static final ChronologyType[] CHRONOLOGY_TYPES = ChronologyType.values();
+    private static final ChristianHolidayType[] CHRISTIAN_HOLIDAY_TYPES = ChristianHolidayType.values();
+    private static final IslamicHolidayType[] ISLAMIC_HOLIDAY_TYPES = IslamicHolidayType.values();
+    private static final HinduHolidayType[] HINDU_HOLIDAY_TYPES = HinduHolidayType.values();
+    private static final EthiopianOrthodoxHolidayType[] ETHIOPIAN_ORTHODOX_HOLIDAY_TYPES =
+            EthiopianOrthodoxHolidayType.values();
+
+    private final StaxXmlFileDataSource xmlDataSource = new StaxXmlFileDataSource();
+
+    @Override
+    public Configuration getConfiguration(ManagerParameter parameter) {
+        URL resourceUrl = parameter.createResourceUrl();
+        URLConnection connection;
+        InputStream inputStream;
+        try {
+            connection = createBinaryUrl(resourceUrl).openConnection();
+            inputStream = connection.getInputStream();
+        } catch (IOException e) {
+            return xmlDataSource.getConfiguration(parameter);
+        }
+        try (InputStream binaryStream = inputStream) {
+            if (isUpToDate(connection, resourceUrl)) {
+                return read(binaryStream);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot instantiate configuration from URL '" + resourceUrl + "'.", e);
+        }
+        return xmlDataSource.getConfiguration(parameter);
+    }
+
+    /**
+     * Reads a configuration in the binary format.
+     *
+     * @param inputStream the stream to read from, left open
+     * @return the configuration
+     * @throws IOException if reading fails or the content is not a compiled
+     *             configuration of this version
+     */
+    public static Configuration read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a compiled holiday configuration.");
+        }
+        int version = in.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version " + version + " of compiled holiday configuration.");
+        }
+        String[] strings = new String[in.readUnsignedShort()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+        return new ConfigurationReader(in, strings).readConfiguration();
+    }
+
+    private static URL createBinaryUrl(URL resourceUrl) throws IOException {
+        if (resourceUrl == null) {
+            throw new IOException("Missing configuration URL.");
+        }
+        String url = resourceUrl.toExternalForm();
+        if (!url.endsWith(".xml")) {
+            throw new IOException("Not an XML configuration URL.");
+        }
+        // resolved against the XML URL to keep its protocol handler
+        return new URL(resourceUrl, url.substring(0, url.length() - ".xml".length()) + FILE_EXTENSION);
+    }
+
+    /**
+     * Shows if the binary file is at least as new as the XML file. Files
+     * within jars are always, as the build creates them together.
+     */
+    private static boolean isUpToDate(URLConnection binaryConnection, URL xmlUrl) {
+        return "jar".equals(xmlUrl.getProtocol()) || binaryConnection.getLastModified() >= getLastModified(xmlUrl);
+    }
+
+    /**
+     * Returns the modification time of the URL's content, 0 if it is unknown.
+     * Only the headers are requested from HTTP URLs.
+     */
+    private static long getLastModified(URL url) {
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return new File(url.toURI()).lastModified();
+            }
+            URLConnection connection = url.openConnection();
+            if (connection instanceof HttpURLConnection) {
+                HttpURLConnection httpConnection = (HttpURLConnection) connection;
+                try {
+                    httpConnection.setRequestMethod("HEAD");
+                    return httpConnection.getLastModified();
+                } finally {
+                    httpConnection.disconnect();
+                }
+            }
+            try (InputStream ignored = connection.getInputStream()) {
+                return connection.getLastModified();
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Reads the configuration graph following the string table.
+     */
+    private static final class ConfigurationReader {
+
+        private final DataInputStream in;
+        private final String[] strings;
+
+        private ConfigurationReader(DataInputStream in, String[] strings) {
+            this.in = in;
+            this.strings = strings;
+        }
+
+        private Configuration readConfiguration() throws IOException {
+            Configuration configuration = new Configuration();
+            configuration.setHierarchy(readString());
+            configuration.setDescription(readString());
+            if (in.readBoolean()) {
+                configuration.setHolidays(readHolidays());
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                Weekend weekend = new Weekend();
+                weekend.setValidFrom(readInteger());
+                weekend.setValidTo(readInteger());
+                for (int j = in.readUnsignedShort(); j > 0; j--) {
+                    weekend.getDay().add(readEnum(WEEKDAYS));
+                }
+                configuration.getWeekend().add(weekend);
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                configuration.getSubConfigurations().add(readConfiguration());
+            }
+            return configuration;
+        }
+
+        /**
+         * Reads the holidays in the order written by
+         * {@link BinaryConfigurationCompiler}.
+         */
+        private Holidays readHolidays() throws IOException {
+            Holidays holidays = new Holidays();
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                holidays.getFixed().add(readFixed());
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                RelativeToFixed relativeToFixed = readHoliday(new RelativeToFixed());
+                relativeToFixed.setDays(readInteger());
+                relativeToFixed.setWeekday(readEnum(WEEKDAYS));
+                relativeToFixed.setWhen(readEnum(WHENS));
+                relativeToFixed.setDate(readOptionalFixed());
+                holidays.getRelativeToFixed().add(relativeToFixed);
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                RelativeToWeekdayInMonth relativeToWeekdayInMonth = readHoliday(new RelativeToWeekdayInMonth());
+                relativeToWeekdayInMonth.setWeekday(readEnum(WEEKDAYS));
+                relativeToWeekdayInMonth.setWhen(readEnum(WHENS));
+                if (in.readBoolean()) {
+                    relativeToWeekdayInMonth.setFixedWeekday(readFixedWeekdayInMonth());
+                }
+                holidays.getRelativeToWeekdayInMonth().add(relativeToWeekdayInMonth);
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                holidays.getFixedWeekday().add(readFixedWeekdayInMonth());
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                ChristianHoliday christianHoliday = readHoliday(new ChristianHoliday());
+                christianHoliday.setType(readEnum(CHRISTIAN_HOLIDAY_TYPES));
+                christianHoliday.setChronology(readEnum(CHRONOLOGY_TYPES));
+                holidays.getChristianHoliday().add(readMovingConditions(christianHoliday));
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                IslamicHoliday islamicHoliday = readHoliday(new IslamicHoliday());
+                islamicHoliday.setType(readEnum(ISLAMIC_HOLIDAY_TYPES));
+                holidays.getIslamicHoliday().add(islamicHoliday);
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                FixedWeekdayBetweenFixed fixedWeekdayBetweenFixed = readHoliday(new FixedWeekdayBetweenFixed());
+                fixedWeekdayBetweenFixed.setWeekday(readEnum(WEEKDAYS));
+                fixedWeekdayBetweenFixed.setFrom(readOptionalFixed());
+                fixedWeekdayBetweenFixed.setTo(readOptionalFixed());
+                holidays.getFixedWeekdayBetweenFixed().add(fixedWeekdayBetweenFixed);
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                FixedWeekdayRelativeToFixed fixedWeekdayRelativeToFixed = readHoliday(
+                        new FixedWeekdayRelativeToFixed());
+                fixedWeekdayRelativeToFixed.setWhich(readEnum(WHICHES));
+                fixedWeekdayRelativeToFixed.setWeekday(readEnum(WEEKDAYS));
+                fixedWeekdayRelativeToFixed.setWhen(readEnum(WHENS));
+                fixedWeekdayRelativeToFixed.setDay(readOptionalFixed());
+                holidays.getFixedWeekdayRelativeToFixed().add(fixedWeekdayRelativeToFixed);
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                HinduHoliday hinduHoliday = readHoliday(new HinduHoliday());
+                hinduHoliday.setType(readEnum(HINDU_HOLIDAY_TYPES));
+                holidays.getHinduHoliday().add(hinduHoliday);
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                HebrewHoliday hebrewHoliday = readHoliday(new HebrewHoliday());
+                hebrewHoliday.setType(readString());
+                holidays.getHebrewHoliday().add(hebrewHoliday);
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                EthiopianOrthodoxHoliday ethiopianOrthodoxHoliday = readHoliday(new EthiopianOrthodoxHoliday());
+                ethiopianOrthodoxHoliday.setType(readEnum(ETHIOPIAN_ORTHODOX_HOLIDAY_TYPES));
+                holidays.getEthiopianOrthodoxHoliday().add(ethiopianOrthodoxHoliday);
+            }
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                RelativeToEasterSunday relativeToEasterSunday = readHoliday(new RelativeToEasterSunday());
+                relativeToEasterSunday.setChronology(readEnum(CHRONOLOGY_TYPES));
+                relativeToEasterSunday.setDays(in.readInt());
+                holidays.getRelativeToEasterSunday().add(relativeToEasterSunday);
+            }
+            return holidays;
+        }
+
+        private Fixed readOptionalFixed() throws IOException {
+            return in.readBoolean() ? readFixed() : null;
+        }
+
+        private Fixed readFixed() throws IOException {
+            Fixed fixed = readHoliday(new Fixed());
+            fixed.setMonth(readEnum(MONTHS));
+            fixed.setDay(readInteger());
+            return readMovingConditions(fixed);
+        }
+
+        private FixedWeekdayInMonth readFixedWeekdayInMonth() throws IOException {
+            FixedWeekdayInMonth fixedWeekdayInMonth = readHoliday(new FixedWeekdayInMonth());
+            fixedWeekdayInMonth.setWhich(readEnum(WHICHES));
+            fixedWeekdayInMonth.setWeekday(readEnum(WEEKDAYS));
+            fixedWeekdayInMonth.setMonth(readEnum(MONTHS));
+            return fixedWeekdayInMonth;
+        }
+
+        private <T extends Holiday> T readHoliday(T holiday) throws IOException {
+            holiday.setValidFrom(readInteger());
+            holiday.setValidTo(readInteger());
+            holiday.setEvery(readString());
+            holiday.setDescriptionPropertiesKey(readString());
+            holiday.setLocalizedType(readEnum(HOLIDAY_TYPES));
+            return holiday;
+        }
+
+        private <T extends MoveableHoliday> T readMovingConditions(T holiday) throws IOException {
+            for (int i = in.readUnsignedShort(); i > 0; i--) {
+                MovingCondition movingCondition = new MovingCondition();
+                movingCondition.setSubstitute(readEnum(WEEKDAYS));
+                movingCondition.setWith(readEnum(WITHS));
+                movingCondition.setWeekday(readEnum(WEEKDAYS));
+                holiday.getMovingCondition().add(movingCondition);
+            }
+            return holiday;
+        }
+
+        private <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+            int ordinal = in.readUnsignedByte();
+            if (ordinal > values.length) {
+                throw new IOException("Invalid ordinal " + (ordinal - 1) + " of "
+                        + values.getClass().getComponentType().getSimpleName() + ".");
+            }
+            return ordinal == 0 ? null : values[ordinal - 1];
+        }
+
+        private Integer readInteger() throws IOException {
+            return in.readBoolean() ? in.readInt() : null;
+        }
+
+        private String readString() throws IOException {
+            int index = in.readUnsignedShort();
+            if (index > strings.length) {
+                throw new IOException("Invalid string index " + index + ".");
+            }
+            return index == 0 ? null : strings[index - 1];
+        }
+
+    }
+
+}
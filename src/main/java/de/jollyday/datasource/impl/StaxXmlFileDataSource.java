@@ -0,0 +1,370 @@
+package de.jollyday.datasource.impl;
+
+import de.jollyday.ManagerParameter;
+import de.jollyday.config.ChristianHoliday;
+import de.jollyday.config.ChristianHolidayType;
+import de.jollyday.config.ChronologyType;
+import de.jollyday.config.Configuration;
+import de.jollyday.config.EthiopianOrthodoxHoliday;
+import de.jollyday.config.EthiopianOrthodoxHolidayType;
+import de.jollyday.config.Fixed;
+import de.jollyday.config.FixedWeekdayBetweenFixed;
+import de.jollyday.config.FixedWeekdayInMonth;
+import de.jollyday.config.FixedWeekdayRelativeToFixed;
+import de.jollyday.config.HebrewHoliday;
+import de.jollyday.config.HinduHoliday;
+import de.jollyday.config.HinduHolidayType;
+import de.jollyday.config.Holiday;
+import de.jollyday.config.HolidayType;
+import de.jollyday.config.Holidays;
+import de.jollyday.config.IslamicHoliday;
+import de.jollyday.config.IslamicHolidayType;
+import de.jollyday.config.Month;
+import de.jollyday.config.MoveableHoliday;
+import de.jollyday.config.MovingCondition;
+import de.jollyday.config.RelativeToEasterSunday;
+import de.jollyday.config.RelativeToFixed;
+import de.jollyday.config.RelativeToWeekdayInMonth;
+import de.jollyday.config.Weekday;
+import de.jollyday.config.Weekend;
+import de.jollyday.config.When;
+import de.jollyday.config.Which;
+import de.jollyday.config.With;
+import de.jollyday.datasource.ConfigurationDataSource;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.function.Function;
+
+/**
+ * This {@link ConfigurationDataSource} implementation reads XML files as resources
+ * from the classpath with a StAX pull parser instead of JAXB. It creates the same
+ * {@link Configuration} objects as {@link XmlFileDataSource} without initializing
+ * a JAXB context, which shortens the start up of short-lived JVMs.
+ * <p>
+ * Select it by setting <code>configuration.datasource.impl</code> to this class.
+ * Unknown elements are skipped like JAXB does.
+ */
+public class StaxXmlFileDataSource implements ConfigurationDataSource {
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    @Override
+    public Configuration getConfiguration(ManagerParameter parameter) {
+        URL resourceUrl = parameter.createResourceUrl();
+        try (InputStream inputStream = resourceUrl.openStream()) {
+            return readConfiguration(inputStream);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot instantiate configuration from URL '" + resourceUrl + "'.", e);
+        }
+    }
+
+    /**
+     * Reads the configuration from the stream.
+     *
+     * @param inputStream the XML content
+     * @return the configuration
+     * @throws XMLStreamException if the content is not a holiday configuration
+     */
+    Configuration readConfiguration(InputStream inputStream) throws XMLStreamException {
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(inputStream);
+        try {
+            reader.nextTag();
+            if (!"Configuration".equals(reader.getLocalName())) {
+                throw new XMLStreamException("Expected element 'Configuration' but found '" + reader.getLocalName()
+                        + "'.", reader.getLocation());
+            }
+            return readConfiguration(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private static Configuration readConfiguration(XMLStreamReader reader) throws XMLStreamException {
+        Configuration configuration = new Configuration();
+        configuration.setHierarchy(reader.getAttributeValue(null, "hierarchy"));
+        configuration.setDescription(reader.getAttributeValue(null, "description"));
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "Holidays":
+                    configuration.setHolidays(readHolidays(reader));
+                    break;
+                case "Weekend":
+                    configuration.getWeekend().add(readWeekend(reader));
+                    break;
+                case "SubConfigurations":
+                    configuration.getSubConfigurations().add(readConfiguration(reader));
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+        return configuration;
+    }
+
+    private static Holidays readHolidays(XMLStreamReader reader) throws XMLStreamException {
+        Holidays holidays = new Holidays();
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "Fixed":
+                    holidays.getFixed().add(readFixed(reader));
+                    break;
+                case "RelativeToFixed":
+                    holidays.getRelativeToFixed().add(readRelativeToFixed(reader));
+                    break;
+                case "RelativeToWeekdayInMonth":
+                    holidays.getRelativeToWeekdayInMonth().add(readRelativeToWeekdayInMonth(reader));
+                    break;
+                case "FixedWeekday":
+                    holidays.getFixedWeekday().add(readFixedWeekdayInMonth(reader));
+                    break;
+                case "ChristianHoliday":
+                    holidays.getChristianHoliday().add(readChristianHoliday(reader));
+                    break;
+                case "IslamicHoliday":
+                    IslamicHoliday islamicHoliday = readHoliday(reader, new IslamicHoliday());
+                    islamicHoliday.setType(attribute(reader, "type", IslamicHolidayType::fromValue));
+                    skipElement(reader);
+                    holidays.getIslamicHoliday().add(islamicHoliday);
+                    break;
+                case "FixedWeekdayBetweenFixed":
+                    holidays.getFixedWeekdayBetweenFixed().add(readFixedWeekdayBetweenFixed(reader));
+                    break;
+                case "FixedWeekdayRelativeToFixed":
+                    holidays.getFixedWeekdayRelativeToFixed().add(readFixedWeekdayRelativeToFixed(reader));
+                    break;
+                case "HinduHoliday":
+                    HinduHoliday hinduHoliday = readHoliday(reader, new HinduHoliday());
+                    hinduHoliday.setType(attribute(reader, "type", HinduHolidayType::fromValue));
+                    skipElement(reader);
+                    holidays.getHinduHoliday().add(hinduHoliday);
+                    break;
+                case "HebrewHoliday":
+                    HebrewHoliday hebrewHoliday = readHoliday(reader, new HebrewHoliday());
+                    hebrewHoliday.setType(reader.getAttributeValue(null, "type"));
+                    skipElement(reader);
+                    holidays.getHebrewHoliday().add(hebrewHoliday);
+                    break;
+                case "EthiopianOrthodoxHoliday":
+                    EthiopianOrthodoxHoliday ethiopianOrthodoxHoliday = readHoliday(reader,
+                            new EthiopianOrthodoxHoliday());
+                    ethiopianOrthodoxHoliday.setType(attribute(reader, "type",
+                            EthiopianOrthodoxHolidayType::fromValue));
+                    skipElement(reader);
+                    holidays.getEthiopianOrthodoxHoliday().add(ethiopianOrthodoxHoliday);
+                    break;
+                case "RelativeToEasterSunday":
+                    holidays.getRelativeToEasterSunday().add(readRelativeToEasterSunday(reader));
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+        return holidays;
+    }
+
+    private static Weekend readWeekend(XMLStreamReader reader) throws XMLStreamException {
+        Weekend weekend = new Weekend();
+        weekend.setValidFrom(attribute(reader, "validFrom", Integer::valueOf));
+        weekend.setValidTo(attribute(reader, "validTo", Integer::valueOf));
+        while (nextChild(reader)) {
+            if ("Day".equals(reader.getLocalName())) {
+                weekend.getDay().add(text(reader, Weekday::fromValue));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return weekend;
+    }
+
+    private static Fixed readFixed(XMLStreamReader reader) throws XMLStreamException {
+        Fixed fixed = readHoliday(reader, new Fixed());
+        fixed.setMonth(attribute(reader, "month", Month::fromValue));
+        fixed.setDay(attribute(reader, "day", Integer::valueOf));
+        return readMovingConditions(reader, fixed);
+    }
+
+    private static ChristianHoliday readChristianHoliday(XMLStreamReader reader) throws XMLStreamException {
+        ChristianHoliday christianHoliday = readHoliday(reader, new ChristianHoliday());
+        christianHoliday.setType(attribute(reader, "type", ChristianHolidayType::fromValue));
+        christianHoliday.setChronology(attribute(reader, "chronology", ChronologyType::fromValue));
+        return readMovingConditions(reader, christianHoliday);
+    }
+
+    private static RelativeToFixed readRelativeToFixed(XMLStreamReader reader) throws XMLStreamException {
+        RelativeToFixed relativeToFixed = readHoliday(reader, new RelativeToFixed());
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "Days":
+                    relativeToFixed.setDays(text(reader, Integer::valueOf));
+                    break;
+                case "Weekday":
+                    relativeToFixed.setWeekday(text(reader, Weekday::fromValue));
+                    break;
+                case "When":
+                    relativeToFixed.setWhen(text(reader, When::fromValue));
+                    break;
+                case "Date":
+                    relativeToFixed.setDate(readFixed(reader));
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+        return relativeToFixed;
+    }
+
+    private static RelativeToWeekdayInMonth readRelativeToWeekdayInMonth(XMLStreamReader reader)
+            throws XMLStreamException {
+        RelativeToWeekdayInMonth relativeToWeekdayInMonth = readHoliday(reader, new RelativeToWeekdayInMonth());
+        relativeToWeekdayInMonth.setWeekday(attribute(reader, "weekday", Weekday::fromValue));
+        relativeToWeekdayInMonth.setWhen(attribute(reader, "when", When::fromValue));
+        while (nextChild(reader)) {
+            if ("FixedWeekday".equals(reader.getLocalName())) {
+                relativeToWeekdayInMonth.setFixedWeekday(readFixedWeekdayInMonth(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return relativeToWeekdayInMonth;
+    }
+
+    private static FixedWeekdayInMonth readFixedWeekdayInMonth(XMLStreamReader reader) throws XMLStreamException {
+        FixedWeekdayInMonth fixedWeekdayInMonth = readHoliday(reader, new FixedWeekdayInMonth());
+        fixedWeekdayInMonth.setWhich(attribute(reader, "which", Which::fromValue));
+        fixedWeekdayInMonth.setWeekday(attribute(reader, "weekday", Weekday::fromValue));
+        fixedWeekdayInMonth.setMonth(attribute(reader, "month", Month::fromValue));
+        skipElement(reader);
+        return fixedWeekdayInMonth;
+    }
+
+    private static FixedWeekdayBetweenFixed readFixedWeekdayBetweenFixed(XMLStreamReader reader)
+            throws XMLStreamException {
+        FixedWeekdayBetweenFixed fixedWeekdayBetweenFixed = readHoliday(reader, new FixedWeekdayBetweenFixed());
+        fixedWeekdayBetweenFixed.setWeekday(attribute(reader, "weekday", Weekday::fromValue));
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "from":
+                    fixedWeekdayBetweenFixed.setFrom(readFixed(reader));
+                    break;
+                case "to":
+                    fixedWeekdayBetweenFixed.setTo(readFixed(reader));
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+        return fixedWeekdayBetweenFixed;
+    }
+
+    private static FixedWeekdayRelativeToFixed readFixedWeekdayRelativeToFixed(XMLStreamReader reader)
+            throws XMLStreamException {
+        FixedWeekdayRelativeToFixed fixedWeekdayRelativeToFixed = readHoliday(reader,
+                new FixedWeekdayRelativeToFixed());
+        fixedWeekdayRelativeToFixed.setWhich(attribute(reader, "which", Which::fromValue));
+        fixedWeekdayRelativeToFixed.setWeekday(attribute(reader, "weekday", Weekday::fromValue));
+        fixedWeekdayRelativeToFixed.setWhen(attribute(reader, "when", When::fromValue));
+        while (nextChild(reader)) {
+            if ("day".equals(reader.getLocalName())) {
+                fixedWeekdayRelativeToFixed.setDay(readFixed(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return fixedWeekdayRelativeToFixed;
+    }
+
+    private static RelativeToEasterSunday readRelativeToEasterSunday(XMLStreamReader reader)
+            throws XMLStreamException {
+        RelativeToEasterSunday relativeToEasterSunday = readHoliday(reader, new RelativeToEasterSunday());
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "chronology":
+                    relativeToEasterSunday.setChronology(text(reader, ChronologyType::fromValue));
+                    break;
+                case "days":
+                    relativeToEasterSunday.setDays(text(reader, Integer::valueOf));
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+        return relativeToEasterSunday;
+    }
+
+    /**
+     * Reads the attributes common to all holidays.
+     */
+    private static <T extends Holiday> T readHoliday(XMLStreamReader reader, T holiday) {
+        holiday.setValidFrom(attribute(reader, "validFrom", Integer::valueOf));
+        holiday.setValidTo(attribute(reader, "validTo", Integer::valueOf));
+        holiday.setEvery(reader.getAttributeValue(null, "every"));
+        holiday.setDescriptionPropertiesKey(reader.getAttributeValue(null, "descriptionPropertiesKey"));
+        holiday.setLocalizedType(attribute(reader, "localizedType", HolidayType::fromValue));
+        return holiday;
+    }
+
+    /**
+     * Reads the moving conditions up to the end of the holiday element.
+     */
+    private static <T extends MoveableHoliday> T readMovingConditions(XMLStreamReader reader, T holiday)
+            throws XMLStreamException {
+        while (nextChild(reader)) {
+            if ("MovingCondition".equals(reader.getLocalName())) {
+                MovingCondition movingCondition = new MovingCondition();
+                movingCondition.setSubstitute(attribute(reader, "substitute", Weekday::fromValue));
+                movingCondition.setWith(attribute(reader, "with", With::fromValue));
+                movingCondition.setWeekday(attribute(reader, "weekday", Weekday::fromValue));
+                holiday.getMovingCondition().add(movingCondition);
+            }
+            skipElement(reader);
+        }
+        return holiday;
+    }
+
+    private static <T> T attribute(XMLStreamReader reader, String name, Function<String, T> converter) {
+        String value = reader.getAttributeValue(null, name);
+        return value == null ? null : converter.apply(value.trim());
+    }
+
+    private static <T> T text(XMLStreamReader reader, Function<String, T> converter) throws XMLStreamException {
+        return converter.apply(reader.getElementText().trim());
+    }
+
+    /**
+     * Moves to the next child element of the current element.
+     *
+     * @return false if the end of the current element was reached instead
+     */
+    private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        return reader.nextTag() == XMLStreamConstants.START_ELEMENT;
+    }
+
+    /**
+     * Moves to the end of the current element including all its children.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+}
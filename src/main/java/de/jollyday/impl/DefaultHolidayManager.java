@@ -18,15 +18,31 @@ package de.jollyday.impl;
 import de.jollyday.CalendarHierarchy;
 import de.jollyday.Holiday;
 import de.jollyday.HolidayManager;
+import de.jollyday.config.ChristianHoliday;
 import de.jollyday.config.Configuration;
+import de.jollyday.config.EthiopianOrthodoxHoliday;
+import de.jollyday.config.Fixed;
+import de.jollyday.config.FixedWeekdayBetweenFixed;
+import de.jollyday.config.FixedWeekdayInMonth;
+import de.jollyday.config.FixedWeekdayRelativeToFixed;
+import de.jollyday.config.HebrewHoliday;
+import de.jollyday.config.HinduHoliday;
 import de.jollyday.config.Holidays;
+import de.jollyday.config.IslamicHoliday;
+import de.jollyday.config.RelativeToEasterSunday;
+import de.jollyday.config.RelativeToFixed;
+import de.jollyday.config.RelativeToWeekdayInMonth;
+import de.jollyday.config.Weekday;
+import de.jollyday.config.Weekend;
 import de.jollyday.parser.HolidayParser;
+import de.jollyday.util.CalendarUtil;
 import de.jollyday.util.ClassLoadingUtil;
+import de.jollyday.util.ImmutableHolidaySet;
+import de.jollyday.util.XMLUtil;
 
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,30 +60,91 @@ public class DefaultHolidayManager extends HolidayManager {
 	 */
 	private static final String PARSER_IMPL_PREFIX = "parser.impl.";
 	/**
-	 * Parser cache by XML class name.
+	 * The rule types of a {@link Holidays} node. The index of a rule type is
+	 * its index within the parser registry.
 	 */
-	private final Map<String, HolidayParser> parserCache = new HashMap<>();
+	private static final RuleType[] RULE_TYPES = { new RuleType(Fixed.class, Holidays::getFixed),
+			new RuleType(RelativeToFixed.class, Holidays::getRelativeToFixed),
+			new RuleType(RelativeToWeekdayInMonth.class, Holidays::getRelativeToWeekdayInMonth),
+			new RuleType(FixedWeekdayInMonth.class, Holidays::getFixedWeekday),
+			new RuleType(ChristianHoliday.class, Holidays::getChristianHoliday),
+			new RuleType(IslamicHoliday.class, Holidays::getIslamicHoliday),
+			new RuleType(FixedWeekdayBetweenFixed.class, Holidays::getFixedWeekdayBetweenFixed),
+			new RuleType(FixedWeekdayRelativeToFixed.class, Holidays::getFixedWeekdayRelativeToFixed),
+			new RuleType(HinduHoliday.class, Holidays::getHinduHoliday),
+			new RuleType(HebrewHoliday.class, Holidays::getHebrewHoliday),
+			new RuleType(EthiopianOrthodoxHoliday.class, Holidays::getEthiopianOrthodoxHoliday),
+			new RuleType(RelativeToEasterSunday.class, Holidays::getRelativeToEasterSunday) };
+	/**
+	 * The parsers indexed by rule type, <code>null</code> for rule types
+	 * without a configured parser. Created on initialization and not modified
+	 * afterwards.
+	 */
+	private HolidayParser[] parserRegistry = new HolidayParser[0];
 	/**
 	 * Configuration parsed on initialization.
 	 */
 	protected Configuration configuration;
+	/**
+	 * The configurations to apply for each hierarchy path. Resolved on
+	 * initialization.
+	 */
+	private Map<String, ConfigurationPlan[]> hierarchyConfigurations = Collections.emptyMap();
 	/**
 	 * Utility class to handle class loading
 	 */
 	private final ClassLoadingUtil classLoadingUtil = new ClassLoadingUtil();
+	/**
+	 * Utility to convert the XML configuration values
+	 */
+	private final XMLUtil xmlUtil = new XMLUtil();
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * Calls
-	 * <code>Set&lt;LocalDate&gt; getHolidays(int year, Configuration c, String... args)</code>
-	 * with the configuration from initialization.
+	 * Parses the configurations resolved on initialization for the hierarchy
+	 * path. The returned set is immutable.
 	 */
 	@Override
 	public Set<Holiday> getHolidays(int year, final String... args) {
-		Set<Holiday> holidaySet = Collections.synchronizedSet(new HashSet<>());
-		getHolidays(year, configuration, holidaySet, args);
-		return holidaySet;
+		Set<Holiday> holidaySet = new HashSet<>();
+		for (ConfigurationPlan plan : resolveConfigurations(args)) {
+			if (LOG.isLoggable(Level.FINER)) {
+				LOG.finer("Adding holidays for " + plan.configuration.getDescription());
+			}
+			for (HolidayParser parser : plan.parsers) {
+				parser.parse(year, holidaySet, plan.configuration.getHolidays());
+			}
+		}
+		return ImmutableHolidaySet.copyOf(holidaySet);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Uses the weekend valid for the year of the most specific configuration
+	 * on the hierarchy path which defines one.
+	 */
+	@Override
+	protected int getWeekendMask(int year, final String... args) {
+		ConfigurationPlan[] configurations = resolveConfigurations(args);
+		for (int i = configurations.length - 1; i >= 0; i--) {
+			for (Weekend weekend : configurations[i].configuration.getWeekend()) {
+				if (isValid(weekend, year)) {
+					int weekendMask = 0;
+					for (Weekday day : weekend.getDay()) {
+						weekendMask |= CalendarUtil.createWeekendMask(xmlUtil.getWeekday(day));
+					}
+					return weekendMask;
+				}
+			}
+		}
+		return super.getWeekendMask(year, args);
+	}
+
+	private static boolean isValid(Weekend weekend, int year) {
+		return (weekend.getValidFrom() == null || weekend.getValidFrom() <= year)
+				&& (weekend.getValidTo() == null || weekend.getValidTo() >= year);
 	}
 
 	/**
@@ -94,107 +171,138 @@ public class DefaultHolidayManager extends HolidayManager {
 	}
 
 	/**
-	 * Parses the provided configuration for the provided year and fills the
-	 * list of holidays.
+	 * Returns the configurations from the root down the hierarchy which apply
+	 * to the hierarchy path. An unknown hierarchy id ends the path.
 	 *
-	 * @param year the year to get the holidays for
-	 * @param c the holiday configuration
-	 * @param holidaySet the set of holidays
-	 * @param args the arguments to descend down the configuration tree
+	 * @param args the hierarchy path
+	 * @return the configurations to apply
 	 */
-	private void getHolidays(int year, final Configuration c, Set<Holiday> holidaySet, final String... args) {
-		if (LOG.isLoggable(Level.FINER)) {
-			LOG.finer("Adding holidays for " + c.getDescription());
-		}
-		parseHolidays(year, holidaySet, c.getHolidays());
-		if (args != null && args.length > 0) {
-			String hierarchy = args[0];
-			for (Configuration config : c.getSubConfigurations()) {
-				if (hierarchy.equalsIgnoreCase(config.getHierarchy())) {
-					getHolidays(year, config, holidaySet, copyOfRange(args, 1, args.length));
-					break;
-				}
+	private ConfigurationPlan[] resolveConfigurations(final String... args) {
+		for (int length = args == null ? 0 : args.length;; length--) {
+			ConfigurationPlan[] configurations = hierarchyConfigurations.get(createHierarchyPath(args, length));
+			if (configurations != null) {
+				return configurations;
 			}
 		}
 	}
 
 	/**
-	 * Copies the specified range from the original array to a new array. This
-	 * is a replacement for Java 1.6 Arrays.copyOfRange() specialized in String.
+	 * Creates the case insensitive lookup path of the first hierarchy ids.
 	 *
-	 * @param original
-	 *            the original array to copy range from
-	 * @param from
-	 *            the start of the range to copy from the original array
-	 * @param to
-	 *            the inclusive end of the range to copy from the original array
-	 * @return the copied range
+	 * @param hierarchy the hierarchy ids
+	 * @param length the number of ids to use
+	 * @return the lookup path
 	 */
-	private String[] copyOfRange(final String[] original, int from, int to) {
-		int newLength = to - from;
-		if (newLength < 0) {
-			throw new IllegalArgumentException(from + " > " + to);
+	private static String createHierarchyPath(String[] hierarchy, int length) {
+		StringBuilder path = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			path.append(createHierarchyPathElement(hierarchy[i]));
 		}
-		String[] copy = new String[newLength];
-		System.arraycopy(original, from, copy, 0, Math.min(original.length - from, newLength));
-		return copy;
+		return path.toString();
+	}
+
+	private static String createHierarchyPathElement(String hierarchy) {
+		return "/" + (hierarchy == null ? null : hierarchy.toLowerCase(Locale.ROOT));
 	}
 
 	/**
-	 * Iterates of the list of parsers and calls parse on each of them.
+	 * Resolves the configurations to apply for every hierarchy path below the
+	 * provided configuration.
 	 *
-	 * @param year the year to parse the holidays for
-	 * @param holidays the set to put the holidays into
-	 * @param config the holiday configuration
+	 * @param c the configuration to resolve the sub configurations of
+	 * @param path the lookup path of the configuration
+	 * @param parents the configurations from the root down to the configuration
+	 * @param resolved the map to put the resolved configurations into
 	 */
-	private void parseHolidays(int year, Set<Holiday> holidays, final Holidays config) {
-		Collection<HolidayParser> parsers = getParsers(config);
-		for (HolidayParser p : parsers) {
-			p.parse(year, holidays, config);
+	private void resolveHierarchy(final Configuration c, String path, List<ConfigurationPlan> parents,
+			Map<String, ConfigurationPlan[]> resolved) {
+		for (Configuration sub : c.getSubConfigurations()) {
+			String subPath = path + createHierarchyPathElement(sub.getHierarchy());
+			List<ConfigurationPlan> configurations = new ArrayList<>(parents);
+			configurations.add(new ConfigurationPlan(sub, getParsers(sub.getHolidays())));
+			resolved.putIfAbsent(subPath, configurations.toArray(new ConfigurationPlan[0]));
+			resolveHierarchy(sub, subPath, configurations, resolved);
 		}
 	}
 
 	/**
-	 * Creates a list of parsers by reading the configuration and trying to find
-	 * an <code>HolidayParser</code> implementation for by XML class type.
+	 * Returns the parsers for the holiday lists of the configuration which
+	 * are not empty from the parser registry.
 	 *
 	 * @param config the holiday configuration
-	 * @return A list of parsers to for this configuration.
+	 * @return the parsers to apply to this configuration
 	 */
-	private Collection<HolidayParser> getParsers(final Holidays config) {
-		Collection<HolidayParser> parsers = new HashSet<>();
-		try {
-			PropertyDescriptor[] propertiesDescs = Introspector.getBeanInfo(config.getClass()).getPropertyDescriptors();
-			for (PropertyDescriptor propertyDescriptor : propertiesDescs) {
-				if (List.class.isAssignableFrom(propertyDescriptor.getPropertyType())) {
-					List<?> l = (List<?>) propertyDescriptor.getReadMethod().invoke(config);
-					if (!l.isEmpty()) {
-						String className = l.get(0).getClass().getName();
-						HolidayParser holidayParser = instantiateParser(className);
-						if (holidayParser != null) {
-							parsers.add(holidayParser);
-						}
-					}
-				}
+	private HolidayParser[] getParsers(final Holidays config) {
+		if (config == null) {
+			return new HolidayParser[0];
+		}
+		List<HolidayParser> parsers = new ArrayList<>(RULE_TYPES.length);
+		for (int i = 0; i < RULE_TYPES.length; i++) {
+			if (parserRegistry[i] != null && !RULE_TYPES[i].holidays.apply(config).isEmpty()) {
+				parsers.add(parserRegistry[i]);
 			}
+		}
+		return parsers.toArray(new HolidayParser[0]);
+	}
+
+	/**
+	 * Creates the parser registry by instantiating the parser configured by
+	 * the property <code>parser.impl.&lt;XML class name&gt;</code> for every
+	 * rule type.
+	 *
+	 * @return the parsers indexed by rule type
+	 */
+	private HolidayParser[] createParserRegistry() {
+		String[] parserClassNames = new String[RULE_TYPES.length];
+		for (int i = 0; i < RULE_TYPES.length; i++) {
+			parserClassNames[i] = getManagerParameter().getProperty(PARSER_IMPL_PREFIX
+					+ RULE_TYPES[i].type.getName());
+		}
+		Map<String, HolidayParser> parsers;
+		try {
+			Set<String> classNames = new HashSet<>(Arrays.asList(parserClassNames));
+			classNames.remove(null);
+			parsers = classLoadingUtil.createInstances(HolidayParser.class, classNames);
 		} catch (Exception e) {
 			throw new IllegalStateException("Cannot create parsers.", e);
 		}
-		return parsers;
+		HolidayParser[] registry = new HolidayParser[RULE_TYPES.length];
+		for (int i = 0; i < RULE_TYPES.length; i++) {
+			registry[i] = parsers.get(parserClassNames[i]);
+		}
+		return registry;
 	}
 
-	private HolidayParser instantiateParser(String className) throws ClassNotFoundException, InstantiationException, IllegalAccessException, java.lang.reflect.InvocationTargetException, NoSuchMethodException {
-		HolidayParser holidayParser = parserCache.get(className);
-		if (holidayParser == null) {
-			String propName = PARSER_IMPL_PREFIX + className;
-			String parserClassName = getManagerParameter().getProperty(propName);
-			if (parserClassName != null) {
-				Class<?> parserClass = classLoadingUtil.loadClass(parserClassName);
-				holidayParser = (HolidayParser) parserClass.getDeclaredConstructor().newInstance();
-				parserCache.put(className, holidayParser);
-			}
+	/**
+	 * A holiday rule type and the list of its rules within a
+	 * {@link Holidays} node.
+	 */
+	private static final class RuleType {
+
+		private final Class<?> type;
+		private final Function<Holidays, List<?>> holidays;
+
+		private RuleType(Class<?> type, Function<Holidays, List<?>> holidays) {
+			this.type = type;
+			this.holidays = holidays;
+		}
+
+	}
+
+	/**
+	 * The parsers to apply to a configuration node. Created on initialization
+	 * so that computing the holidays of a year needs no reflection.
+	 */
+	private static final class ConfigurationPlan {
+
+		private final Configuration configuration;
+		private final HolidayParser[] parsers;
+
+		private ConfigurationPlan(Configuration configuration, HolidayParser[] parsers) {
+			this.configuration = configuration;
+			this.parsers = parsers;
 		}
-		return holidayParser;
+
 	}
 
 	/**
@@ -209,6 +317,12 @@ public class DefaultHolidayManager extends HolidayManager {
 		configuration = getConfigurationDataSource().getConfiguration(getManagerParameter());
 		validateConfigurationHierarchy(configuration);
 		logHierarchy(configuration, 0);
+		parserRegistry = createParserRegistry();
+		Map<String, ConfigurationPlan[]> resolved = new HashMap<>();
+		ConfigurationPlan root = new ConfigurationPlan(configuration, getParsers(configuration.getHolidays()));
+		resolved.put("", new ConfigurationPlan[] { root });
+		resolveHierarchy(configuration, "", Collections.singletonList(root), resolved);
+		hierarchyConfigurations = resolved;
 	}
 
 	/**
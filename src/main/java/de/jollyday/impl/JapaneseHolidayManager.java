@@ -21,6 +21,7 @@ import java.util.Set;
 
 import de.jollyday.Holiday;
 import de.jollyday.HolidayType;
+import de.jollyday.util.ImmutableHolidaySet;
 
 /**
  * <p>
@@ -46,17 +47,16 @@ public class JapaneseHolidayManager extends DefaultHolidayManager {
 	@Override
 	public Set<Holiday> getHolidays(int year, final String... args) {
 		Set<Holiday> holidays = super.getHolidays(year, args);
-		Set<Holiday> additionalHolidays = new HashSet<>();
+		Set<Holiday> holidaysWithBridges = new HashSet<>(holidays);
 		for (Holiday d : holidays) {
 			LocalDate twoDaysLater = d.getDate().plusDays(2);
 			if (calendarUtil.contains(holidays, twoDaysLater)) {
 				LocalDate bridgingDate = twoDaysLater.minusDays(1);
-				additionalHolidays.add(new Holiday(bridgingDate, BRIDGING_HOLIDAY_PROPERTIES_KEY,
+				holidaysWithBridges.add(new Holiday(bridgingDate, BRIDGING_HOLIDAY_PROPERTIES_KEY,
 						HolidayType.OFFICIAL_HOLIDAY));
 			}
 		}
-		holidays.addAll(additionalHolidays);
-		return holidays;
+		return ImmutableHolidaySet.copyOf(holidaysWithBridges);
 	}
 
 }
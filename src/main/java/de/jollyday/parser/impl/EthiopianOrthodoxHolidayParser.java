@@ -23,6 +23,7 @@ import de.jollyday.HolidayType;
 import de.jollyday.config.EthiopianOrthodoxHoliday;
 import de.jollyday.config.Holidays;
 import de.jollyday.parser.AbstractHolidayParser;
+import de.jollyday.util.CalendarUtil;
 
 /**
  * Calculates the ethiopian orthodox holidays.
@@ -46,28 +47,29 @@ public class EthiopianOrthodoxHolidayParser extends AbstractHolidayParser {
 	/** {@inheritDoc} */
 	@Override
 	public void parse(int year, Set<Holiday> holidays, Holidays config) {
+		long[] epochDays = new long[2];
 		for (EthiopianOrthodoxHoliday h : config.getEthiopianOrthodoxHoliday()) {
 			if (!isValid(h, year)) {
 				continue;
 			}
-			final Set<LocalDate> ethiopianHolidays;
+			final int count;
 			switch (h.getType()) {
 			case TIMKAT:
-				ethiopianHolidays = calendarUtil.getEthiopianOrthodoxHolidaysInGregorianYear(year, 5, 10);
+				count = CalendarUtil.getEthiopianOrthodoxEpochDaysInGregorianYear(year, 5, 10, epochDays);
 				break;
 			case ENKUTATASH:
-				ethiopianHolidays = calendarUtil.getEthiopianOrthodoxHolidaysInGregorianYear(year, 1, 1);
+				count = CalendarUtil.getEthiopianOrthodoxEpochDaysInGregorianYear(year, 1, 1, epochDays);
 				break;
 			case MESKEL:
-				ethiopianHolidays = calendarUtil.getEthiopianOrthodoxHolidaysInGregorianYear(year, 1, 17);
+				count = CalendarUtil.getEthiopianOrthodoxEpochDaysInGregorianYear(year, 1, 17, epochDays);
 				break;
 			default:
 				throw new IllegalArgumentException("Unknown ethiopian orthodox holiday type " + h.getType());
 			}
 			String propertiesKey = PREFIX_PROPERTY_ETHIOPIAN_ORTHODOX + h.getType().name();
 			HolidayType type = xmlUtil.getType(h.getLocalizedType());
-			for (LocalDate d : ethiopianHolidays) {
-				holidays.add(new Holiday(d, propertiesKey, type));
+			for (int i = 0; i < count; i++) {
+				holidays.add(new Holiday(LocalDate.ofEpochDay(epochDays[i]), propertiesKey, type));
 			}
 		}
 	}
@@ -23,6 +23,7 @@ import de.jollyday.HolidayType;
 import de.jollyday.config.Holidays;
 import de.jollyday.config.IslamicHoliday;
 import de.jollyday.parser.AbstractHolidayParser;
+import de.jollyday.util.CalendarUtil;
 
 /**
  * This parser calculates gregorian dates for the different islamic holidays.
@@ -46,64 +47,91 @@ public class IslamicHolidayParser extends AbstractHolidayParser {
 	/** {@inheritDoc} */
 	@Override
 	public void parse(int year, Set<Holiday> holidays, final Holidays config) {
+		long[] epochDays = new long[2];
 		for (IslamicHoliday i : config.getIslamicHoliday()) {
 			if (!isValid(i, year)) {
 				continue;
 			}
-			Set<LocalDate> islamicHolidays;
+			int month;
+			int day;
+			int relativeShift = 0;
 			switch (i.getType()) {
 			case NEWYEAR:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 1, 1);
+				month = 1;
+				day = 1;
 				break;
 			case ASCHURA:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 1, 10);
+				month = 1;
+				day = 10;
 				break;
 			case RAMADAN_END:
-				islamicHolidays = calendarUtil.getRelativeIslamicHolidaysInGregorianYear(year, 10, 1, -1);
+				month = 10;
+				day = 1;
+				relativeShift = -1;
 				break;
 			case ID_AL_FITR:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 10, 1);
+				month = 10;
+				day = 1;
 				break;
 			case ID_AL_FITR_2:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 10, 2);
+				month = 10;
+				day = 2;
 				break;
 			case ID_AL_FITR_3:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 10, 3);
+				month = 10;
+				day = 3;
 				break;
 			case ARAFAAT:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 12, 9);
+				month = 12;
+				day = 9;
 				break;
 			case ID_UL_ADHA:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 12, 10);
+				month = 12;
+				day = 10;
 				break;
 			case ID_UL_ADHA_2:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 12, 11);
+				month = 12;
+				day = 11;
 				break;
 			case ID_UL_ADHA_3:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 12, 12);
+				month = 12;
+				day = 12;
 				break;
 			case LAILAT_AL_BARAT:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 8, 15);
+				month = 8;
+				day = 15;
 				break;
 			case LAILAT_AL_MIRAJ:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 7, 27);
+				month = 7;
+				day = 27;
 				break;
 			case LAILAT_AL_QADR:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 9, 27);
+				month = 9;
+				day = 27;
 				break;
 			case MAWLID_AN_NABI:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 3, 12);
+				month = 3;
+				day = 12;
 				break;
 			case RAMADAN:
-				islamicHolidays = calendarUtil.getIslamicHolidaysInGregorianYear(year, 9, 1);
+				month = 9;
+				day = 1;
 				break;
 			default:
 				throw new IllegalArgumentException("Unknown islamic holiday " + i.getType());
 			}
 			String propertiesKey = PREFIX_PROPERTY_ISLAMIC + i.getType().name();
 			HolidayType type = xmlUtil.getType(i.getLocalizedType());
-			for (LocalDate d : islamicHolidays) {
-				holidays.add(new Holiday(d, propertiesKey, type));
+			int count = CalendarUtil.getRelativeIslamicEpochDaysInGregorianYear(year, month, day, relativeShift,
+					epochDays);
+			if (count < 0) {
+				for (LocalDate d : calendarUtil.getRelativeIslamicHolidaysInGregorianYear(year, month, day,
+						relativeShift)) {
+					holidays.add(new Holiday(d, propertiesKey, type));
+				}
+			}
+			for (int j = 0; j < count; j++) {
+				holidays.add(new Holiday(LocalDate.ofEpochDay(epochDays[j]), propertiesKey, type));
 			}
 		}
 	}
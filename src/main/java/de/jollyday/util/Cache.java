@@ -15,22 +15,40 @@
  */
 package de.jollyday.util;
 
+import de.jollyday.CacheStatistics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Cache implementation which handles concurrent access to cached values.
+ * Cache implementation which handles concurrent access to cached values. The
+ * values are created outside of any map lock. Concurrent lookups of a key
+ * which is being created wait for and share the single creation while lookups
+ * of other keys never wait. A failed creation is not cached.
  *
  * @param <VALUE>
  *            the type of cached values
  */
 public class Cache<VALUE> {
 	/**
-	 * Map for caching
+	 * Map for caching the created or in-flight values
 	 */
-	private final Map<String, VALUE> cachingMap = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<VALUE>> cachingMap = new ConcurrentHashMap<>();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder loadCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+
 	/**
-	 * Returns the value defined by the {@link ValueHandler}
+	 * Returns the value defined by the {@link ValueHandler}. If the value is
+	 * being created by another thread this waits for it.
 	 *
 	 * @param valueHandler
 	 *            which creates the key and the value if necessary
@@ -38,18 +56,177 @@ public class Cache<VALUE> {
 	 */
 	public VALUE get(ValueHandler<VALUE> valueHandler) {
 		final String key = valueHandler.getKey();
-		// Try to first get the value which is most likely cached to avoid creating a lambda.
-		final VALUE value = cachingMap.get(key);
-		return value != null ? value : cachingMap.computeIfAbsent(key, k -> valueHandler.createValue());
+		CompletableFuture<VALUE> future = cachingMap.get(key);
+		if (future == null) {
+			CompletableFuture<VALUE> created = new CompletableFuture<>();
+			future = cachingMap.putIfAbsent(key, created);
+			if (future == null) {
+				missCount.increment();
+				return load(key, created, valueHandler);
+			}
+		}
+		hitCount.increment();
+		return join(future);
+	}
+
+	/**
+	 * Returns the value defined by the {@link ValueHandler} without blocking.
+	 * A missing value is created on the executor and lookups of the same key
+	 * share the creation with {@link #get(ValueHandler)}.
+	 *
+	 * @param valueHandler
+	 *            which creates the key and the value if necessary
+	 * @param executor
+	 *            the executor to create a missing value on
+	 * @return the future completed with the eventually cached value or
+	 *         exceptionally if its creation failed
+	 */
+	public CompletableFuture<VALUE> getAsync(ValueHandler<VALUE> valueHandler, Executor executor) {
+		final String key = valueHandler.getKey();
+		CompletableFuture<VALUE> future = cachingMap.get(key);
+		if (future == null) {
+			CompletableFuture<VALUE> created = new CompletableFuture<>();
+			future = cachingMap.putIfAbsent(key, created);
+			if (future == null) {
+				missCount.increment();
+				try {
+					executor.execute(() -> {
+						try {
+							load(key, created, valueHandler);
+						} catch (RuntimeException | Error e) {
+							// the future is completed exceptionally
+						}
+					});
+				} catch (RuntimeException e) {
+					cachingMap.remove(key, created);
+					created.completeExceptionally(e);
+				}
+				return created.thenApply(value -> value);
+			}
+		}
+		hitCount.increment();
+		// callers must not be able to complete the shared future
+		return future.thenApply(value -> value);
 	}
 
 	/**
-	 * Clears the cache.
+	 * Returns the value cached for the key without creating it or waiting for
+	 * its creation. Only a found value is counted as hit so that a following
+	 * {@link #get(ValueHandler)} counts the miss.
+	 *
+	 * @param key the key of the value
+	 * @return the cached value or null
+	 */
+	public VALUE getIfPresent(String key) {
+		VALUE value = peek(key);
+		if (value != null) {
+			hitCount.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the value cached for the key without creating it, waiting for
+	 * its creation or counting the lookup.
+	 *
+	 * @param key the key of the value
+	 * @return the cached value or null
+	 */
+	public VALUE peek(String key) {
+		return valueOf(cachingMap.get(key));
+	}
+
+	/**
+	 * Caches the value for the key, replacing any cached value. Callers
+	 * waiting for an in-flight creation of the key still receive the created
+	 * value.
+	 *
+	 * @param key the key of the value
+	 * @param value the value to cache
+	 * @return the previously cached value or null
+	 */
+	public VALUE put(String key, VALUE value) {
+		return valueOf(cachingMap.put(key, CompletableFuture.completedFuture(value)));
+	}
+
+	/**
+	 * Creates the value and completes the future with it. The statistics are
+	 * updated before, so callers woken by the future see the load.
+	 */
+	private VALUE load(String key, CompletableFuture<VALUE> future, ValueHandler<VALUE> valueHandler) {
+		long start = System.nanoTime();
+		VALUE value;
+		try {
+			value = valueHandler.createValue();
+		} catch (RuntimeException | Error e) {
+			recordLoad(start);
+			cachingMap.remove(key, future);
+			future.completeExceptionally(e);
+			throw e;
+		}
+		recordLoad(start);
+		future.complete(value);
+		return value;
+	}
+
+	private void recordLoad(long start) {
+		loadCount.increment();
+		totalLoadTime.add(System.nanoTime() - start);
+	}
+
+	/**
+	 * Waits for the value and rethrows the failure of its creation.
+	 */
+	private static <VALUE> VALUE join(CompletableFuture<VALUE> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private static <VALUE> VALUE valueOf(CompletableFuture<VALUE> future) {
+		if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+			return null;
+		}
+		return future.join();
+	}
+
+	/**
+	 * Clears the cache. The statistics are kept.
 	 */
 	public void clear() {
 		cachingMap.clear();
 	}
 
+	/**
+	 * @return a snapshot of the currently cached values
+	 */
+	public Collection<VALUE> values() {
+		List<VALUE> values = new ArrayList<>(cachingMap.size());
+		for (CompletableFuture<VALUE> future : cachingMap.values()) {
+			VALUE value = valueOf(future);
+			if (value != null) {
+				values.add(value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * @return a snapshot of the statistics of this cache
+	 */
+	public CacheStatistics getStatistics() {
+		return new CacheStatistics(hitCount.sum(), missCount.sum(), loadCount.sum(), totalLoadTime.sum(), 0,
+				values().size());
+	}
+
 	public interface ValueHandler<VALUE> {
 		String getKey();
 		VALUE createValue();
@@ -19,14 +19,18 @@ import de.jollyday.Holiday;
 import de.jollyday.HolidayType;
 import de.jollyday.config.Fixed;
 import org.threeten.extra.chrono.CopticChronology;
-import org.threeten.extra.chrono.JulianChronology;
 
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.Chronology;
 import java.time.chrono.HijrahChronology;
+import java.time.chrono.HijrahDate;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.ValueRange;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashSet;
 import java.util.Set;
@@ -43,6 +47,22 @@ import static java.time.Month.*;
  */
 public class CalendarUtil {
 
+    /**
+     * The weekend mask of Saturday and Sunday.
+     */
+    public static final int SATURDAY_SUNDAY_WEEKEND = createWeekendMask(SATURDAY, SUNDAY);
+    /**
+     * The first year of the easter sunday tables.
+     */
+    public static final int EASTER_TABLE_FIRST_YEAR = 1583;
+    /**
+     * The last year of the easter sunday tables.
+     */
+    public static final int EASTER_TABLE_LAST_YEAR = 4099;
+
+    private static final int[] GREGORIAN_EASTER_SUNDAYS = new int[EASTER_TABLE_LAST_YEAR - EASTER_TABLE_FIRST_YEAR + 1];
+    private static final int[] JULIAN_EASTER_SUNDAYS = new int[EASTER_TABLE_LAST_YEAR - EASTER_TABLE_FIRST_YEAR + 1];
+
     private final XMLUtil xmlUtil = new XMLUtil();
 
     /**
@@ -122,6 +142,66 @@ public class CalendarUtil {
      * @return julian easter sunday
      */
     public LocalDate getJulianEasterSunday(int year) {
+        return LocalDate.ofEpochDay(getJulianEasterSundayEpochDay(year));
+    }
+
+    /**
+     * Returns the easter sunday within the gregorian chronology.
+     *
+     * @param year a int.
+     * @return gregorian easter sunday.
+     */
+    public LocalDate getGregorianEasterSunday(int year) {
+        return LocalDate.ofEpochDay(getGregorianEasterSundayEpochDay(year));
+    }
+
+    /**
+     * Returns the epoch day of the easter sunday within the julian chronology.
+     * Years from {@value #EASTER_TABLE_FIRST_YEAR} to
+     * {@value #EASTER_TABLE_LAST_YEAR} are computed once and then read from a
+     * table shared by all instances.
+     *
+     * @param year a int.
+     * @return the days since 1970-01-01 of the julian easter sunday
+     */
+    public static long getJulianEasterSundayEpochDay(int year) {
+        if (year < EASTER_TABLE_FIRST_YEAR || year > EASTER_TABLE_LAST_YEAR) {
+            return computeJulianEasterSundayEpochDay(year);
+        }
+        int index = year - EASTER_TABLE_FIRST_YEAR;
+        int epochDay = JULIAN_EASTER_SUNDAYS[index];
+        if (epochDay == 0) {
+            // 0 is 1970-01-01 which is no easter sunday. Concurrent fills write the same value.
+            epochDay = (int) computeJulianEasterSundayEpochDay(year);
+            JULIAN_EASTER_SUNDAYS[index] = epochDay;
+        }
+        return epochDay;
+    }
+
+    /**
+     * Returns the epoch day of the easter sunday within the gregorian
+     * chronology. Years from {@value #EASTER_TABLE_FIRST_YEAR} to
+     * {@value #EASTER_TABLE_LAST_YEAR} are computed once and then read from a
+     * table shared by all instances.
+     *
+     * @param year a int.
+     * @return the days since 1970-01-01 of the gregorian easter sunday
+     */
+    public static long getGregorianEasterSundayEpochDay(int year) {
+        if (year < EASTER_TABLE_FIRST_YEAR || year > EASTER_TABLE_LAST_YEAR) {
+            return computeGregorianEasterSundayEpochDay(year);
+        }
+        int index = year - EASTER_TABLE_FIRST_YEAR;
+        int epochDay = GREGORIAN_EASTER_SUNDAYS[index];
+        if (epochDay == 0) {
+            // 0 is 1970-01-01 which is no easter sunday. Concurrent fills write the same value.
+            epochDay = (int) computeGregorianEasterSundayEpochDay(year);
+            GREGORIAN_EASTER_SUNDAYS[index] = epochDay;
+        }
+        return epochDay;
+    }
+
+    private static long computeJulianEasterSundayEpochDay(int year) {
         int a, b, c, d, e;
         int x, month, day;
         a = year % 4;
@@ -132,16 +212,14 @@ public class CalendarUtil {
         x = d + e + 114;
         month = x / 31;
         day = (x % 31) + 1;
-        return LocalDate.from(JulianChronology.INSTANCE.date(year, (month == 3 ? 3 : 4), day));
+        // julian day number of the julian date in March or April, shifted to the epoch
+        long yearSince4801BC = year + 4800L;
+        int monthSinceMarch = month - 3;
+        return day + (153 * monthSinceMarch + 2) / 5 + 365 * yearSince4801BC + Math.floorDiv(yearSince4801BC, 4)
+                - 32083 - 2440588;
     }
 
-    /**
-     * Returns the easter sunday within the gregorian chronology.
-     *
-     * @param year a int.
-     * @return gregorian easter sunday.
-     */
-    public LocalDate getGregorianEasterSunday(int year) {
+    private static long computeGregorianEasterSundayEpochDay(int year) {
         int a, b, c, d, e, f, g, h, i, j, k, l;
         int x, month, day;
         a = year % 19;
@@ -159,7 +237,24 @@ public class CalendarUtil {
         x = h + k - 7 * l + 114;
         month = x / 31;
         day = (x % 31) + 1;
-        return LocalDate.of(year, (month == 3 ? MARCH : APRIL), day);
+        return LocalDate.of(year, (month == 3 ? MARCH : APRIL), day).toEpochDay();
+    }
+
+    /**
+     * Returns the ISO year of the epoch day without creating a date.
+     *
+     * @param epochDay the days since 1970-01-01
+     * @return the year
+     */
+    public static int getYearOfEpochDay(long epochDay) {
+        // shifts the epoch to 0000-03-01 so the leap day is the last day of a year
+        long zeroDay = epochDay + 719468;
+        long era = Math.floorDiv(zeroDay, 146097);
+        long dayOfEra = zeroDay - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        // days from March 1st on beyond January 1st belong to the next year
+        return (int) (yearOfEra + era * 400 + (dayOfYear >= 306 ? 1 : 0));
     }
 
     /**
@@ -169,7 +264,44 @@ public class CalendarUtil {
      * @return is weekend
      */
     public boolean isWeekend(final LocalDate date) {
-        return date.getDayOfWeek() == SATURDAY || date.getDayOfWeek() == SUNDAY;
+        return isWeekend(date, SATURDAY_SUNDAY_WEEKEND);
+    }
+
+    /**
+     * Returns if this date is on a weekend defined by the weekend mask.
+     *
+     * @param date        a {@link LocalDate} object.
+     * @param weekendMask the weekend days as created by {@link #createWeekendMask(DayOfWeek...)}
+     * @return is weekend
+     */
+    public boolean isWeekend(final LocalDate date, int weekendMask) {
+        return isWeekend(date.getDayOfWeek(), weekendMask);
+    }
+
+    /**
+     * Returns if the day of week is part of the weekend mask.
+     *
+     * @param dayOfWeek   a {@link DayOfWeek} object.
+     * @param weekendMask the weekend days as created by {@link #createWeekendMask(DayOfWeek...)}
+     * @return is weekend
+     */
+    public static boolean isWeekend(final DayOfWeek dayOfWeek, int weekendMask) {
+        return (weekendMask & (1 << dayOfWeek.ordinal())) != 0;
+    }
+
+    /**
+     * Creates the bitmask of the weekend days with the bit of each
+     * {@link DayOfWeek} ordinal set.
+     *
+     * @param weekendDays the days of the weekend
+     * @return the weekend mask
+     */
+    public static int createWeekendMask(DayOfWeek... weekendDays) {
+        int weekendMask = 0;
+        for (DayOfWeek day : weekendDays) {
+            weekendMask |= 1 << day.ordinal();
+        }
+        return weekendMask;
     }
 
     /**
@@ -185,8 +317,7 @@ public class CalendarUtil {
      * @return List of gregorian dates for the islamic month/day.
      */
     public Set<LocalDate> getIslamicHolidaysInGregorianYear(int gregorianYear, int islamicMonth, int islamicDay) {
-        return getDatesFromChronologyWithinGregorianYear(islamicMonth, islamicDay, gregorianYear,
-                HijrahChronology.INSTANCE);
+        return getRelativeIslamicHolidaysInGregorianYear(gregorianYear, islamicMonth, islamicDay, 0);
     }
     
     /**
@@ -203,8 +334,97 @@ public class CalendarUtil {
      * @return List of gregorian dates for the islamic month/day shifted by relative shift days.
      */
     public Set<LocalDate> getRelativeIslamicHolidaysInGregorianYear(int gregorianYear, int islamicMonth, int islamicDay, int relativeShift) {
-        return getRelativeDatesFromChronologyWithinGregorianYear(islamicMonth, islamicDay, gregorianYear,
-                HijrahChronology.INSTANCE, relativeShift);
+        long[] epochDays = new long[2];
+        int count = getRelativeIslamicEpochDaysInGregorianYear(gregorianYear, islamicMonth, islamicDay,
+                relativeShift, epochDays);
+        if (count < 0) {
+            return getRelativeDatesFromChronologyWithinGregorianYear(islamicMonth, islamicDay, gregorianYear,
+                    HijrahChronology.INSTANCE, relativeShift);
+        }
+        Set<LocalDate> holidays = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            holidays.add(LocalDate.ofEpochDay(epochDays[i]));
+        }
+        return holidays;
+    }
+
+    /**
+     * Writes the epoch days of the islamic month and day shifted by the
+     * relative shift within a gregorian year into the provided array by
+     * reading a table of the month starts within the range supported by the
+     * {@link HijrahChronology}. There are at most two occurrences within a
+     * gregorian year.
+     *
+     * @param gregorianYear a int.
+     * @param islamicMonth  a int.
+     * @param islamicDay    a int.
+     * @param relativeShift a int.
+     * @param epochDays     the array of at least two elements to write the
+     *                      ascending epoch days to
+     * @return the number of written epoch days or -1 if the year is not
+     * within the supported range of the table
+     * @throws java.time.DateTimeException if the islamic day does not exist
+     */
+    public static int getRelativeIslamicEpochDaysInGregorianYear(int gregorianYear, int islamicMonth, int islamicDay,
+                                                                 int relativeShift, long[] epochDays) {
+        int[] monthStarts = HijrahMonthTable.MONTH_STARTS;
+        int absoluteShift = Math.abs(relativeShift);
+        long first = LocalDate.of(gregorianYear, JANUARY, 1).toEpochDay();
+        long last = LocalDate.of(gregorianYear, DECEMBER, 31).toEpochDay();
+        if (first - absoluteShift < monthStarts[0] || last + absoluteShift >= monthStarts[monthStarts.length - 1]) {
+            return -1;
+        }
+        ChronoField.MONTH_OF_YEAR.checkValidValue(islamicMonth);
+        int month = findMonth(monthStarts, first - absoluteShift) / 12 * 12 + islamicMonth - 1;
+        int lastMonth = findMonth(monthStarts, last + absoluteShift);
+        int count = 0;
+        for (; month <= lastMonth; month += 12) {
+            int monthLength = monthStarts[month + 1] - monthStarts[month];
+            if (islamicDay < 1 || islamicDay > monthLength) {
+                throw new DateTimeException("Invalid islamic day " + islamicDay + " of month " + islamicMonth);
+            }
+            long epochDay = monthStarts[month] + islamicDay - 1 + relativeShift;
+            if (epochDay >= first && epochDay <= last) {
+                epochDays[count++] = epochDay;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index of the month containing the epoch day within the
+     * month starts.
+     */
+    private static int findMonth(int[] monthStarts, long epochDay) {
+        int index = Arrays.binarySearch(monthStarts, (int) epochDay);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * The epoch days of the first day of every month within the range of the
+     * {@link HijrahChronology}, followed by the day after the last month.
+     * Created on first use.
+     */
+    private static final class HijrahMonthTable {
+
+        private static final int[] MONTH_STARTS = createMonthStarts();
+
+        private static int[] createMonthStarts() {
+            ValueRange years = HijrahChronology.INSTANCE.range(ChronoField.YEAR);
+            int firstYear = (int) years.getMinimum();
+            int lastYear = (int) years.getMaximum();
+            int[] monthStarts = new int[(lastYear - firstYear + 1) * 12 + 1];
+            for (int year = firstYear; year <= lastYear; year++) {
+                for (int month = 1; month <= 12; month++) {
+                    monthStarts[(year - firstYear) * 12 + month - 1] = (int) HijrahChronology.INSTANCE
+                            .date(year, month, 1).toEpochDay();
+                }
+            }
+            HijrahDate lastMonth = HijrahChronology.INSTANCE.date(lastYear, 12, 1);
+            monthStarts[monthStarts.length - 1] = (int) (lastMonth.toEpochDay() + lastMonth.lengthOfMonth());
+            return monthStarts;
+        }
+
     }
 
     /**
@@ -219,24 +439,62 @@ public class CalendarUtil {
      * @return List of gregorian dates for the ethiopian orthodox month/day.
      */
     public Set<LocalDate> getEthiopianOrthodoxHolidaysInGregorianYear(int gregorianYear, int eoMonth, int eoDay) {
-        return getDatesFromChronologyWithinGregorianYear(eoMonth, eoDay, gregorianYear, CopticChronology.INSTANCE);
+        long[] epochDays = new long[2];
+        int count = getEthiopianOrthodoxEpochDaysInGregorianYear(gregorianYear, eoMonth, eoDay, epochDays);
+        Set<LocalDate> holidays = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            holidays.add(LocalDate.ofEpochDay(epochDays[i]));
+        }
+        return holidays;
     }
 
     /**
-     * Searches for the occurrences of a month/day in one chronology within one
-     * gregorian year.
+     * Writes the epoch days of the ethiopian orthodox month and day within a
+     * gregorian year into the provided array. The dates are computed
+     * arithmetically within the {@link CopticChronology}. There are at most
+     * two occurrences within a gregorian year.
      *
-     * @param targetMonth
-     * @param targetDay
-     * @param gregorianYear
-     * @param targetChrono
-     * @return the list of gregorian dates.
+     * @param gregorianYear a int.
+     * @param eoMonth       a int.
+     * @param eoDay         a int.
+     * @param epochDays     the array of at least two elements to write the
+     *                      ascending epoch days to
+     * @return the number of written epoch days
+     * @throws DateTimeException if the ethiopian orthodox day does not exist
      */
-    private Set<LocalDate> getDatesFromChronologyWithinGregorianYear(int targetMonth, int targetDay, int gregorianYear,
-                                                                     Chronology targetChrono) {
-        return getRelativeDatesFromChronologyWithinGregorianYear(targetMonth, targetDay, gregorianYear, targetChrono, 0);
+    public static int getEthiopianOrthodoxEpochDaysInGregorianYear(int gregorianYear, int eoMonth, int eoDay,
+                                                                   long[] epochDays) {
+        if (eoMonth < 1 || eoMonth > 13) {
+            throw new DateTimeException("Invalid ethiopian orthodox month " + eoMonth);
+        }
+        long first = LocalDate.of(gregorianYear, JANUARY, 1).toEpochDay();
+        long last = LocalDate.of(gregorianYear, DECEMBER, 31).toEpochDay();
+        int count = 0;
+        // the coptic year starts on 11th or 12th September of the gregorian year 283 years later
+        for (int copticYear = gregorianYear - 284; copticYear <= gregorianYear - 283; copticYear++) {
+            int monthLength = eoMonth < 13 ? 30 : Math.floorMod(copticYear, 4) == 3 ? 6 : 5;
+            if (eoDay < 1 || eoDay > monthLength) {
+                throw new DateTimeException("Invalid ethiopian orthodox day " + eoDay + " of month " + eoMonth
+                        + " in year " + copticYear);
+            }
+            long epochDay = getCopticEpochDay(copticYear, eoMonth, eoDay);
+            if (epochDay >= first && epochDay <= last) {
+                epochDays[count++] = epochDay;
+            }
+        }
+        return count;
     }
-    
+
+    /**
+     * Returns the epoch day of the coptic date. Every month has 30 days and
+     * the 13th month 5 days, 6 in every fourth year.
+     */
+    private static long getCopticEpochDay(int copticYear, int copticMonth, int copticDay) {
+        // 615558 days from 0001-01-01 coptic (284-08-29 julian) to 1970-01-01
+        return (copticYear - 1) * 365L + Math.floorDiv(copticYear, 4) + 30 * (copticMonth - 1) + copticDay - 1
+                - 615558;
+    }
+
     /**
      * Searches for the occurrences of a month/day +- relative shift in one
      * chronology within one gregorian year.
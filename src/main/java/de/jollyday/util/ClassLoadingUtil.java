@@ -15,6 +15,16 @@
  */
 package de.jollyday.util;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -29,6 +39,68 @@ public class ClassLoadingUtil {
 
 	private static final Logger LOG = Logger.getLogger(ClassLoadingUtil.class.getName());
 
+	/**
+	 * Creates a new instance of the implementation class of the service.
+	 *
+	 * @param service the service type
+	 * @param className the name of the implementation class
+	 * @param <T> the service type
+	 * @return the new instance
+	 * @throws ReflectiveOperationException if the class cannot be loaded or
+	 *             instantiated
+	 * @throws ClassCastException if the class does not implement the service
+	 * @see #createInstances(Class, Collection)
+	 */
+	public <T> T createInstance(Class<T> service, String className) throws ReflectiveOperationException {
+		return createInstances(service, Collections.singleton(className)).get(className);
+	}
+
+	/**
+	 * Creates new instances of the implementation classes of the service. The
+	 * providers registered for the service, i.e. by
+	 * <code>META-INF/services</code> or module <code>provides</code>, are
+	 * instantiated by the {@link ServiceLoader}, so they need no reflective
+	 * access. Implementations which are not registered are loaded by
+	 * {@link #loadClass(String)} and instantiated reflectively.
+	 * <p>
+	 * The {@link ServiceLoader} of Java 8 only tells the class of a provider
+	 * by instantiating it, so the providers registered before the requested
+	 * ones are instantiated too. Selecting them by type without instantiating
+	 * requires <code>ServiceLoader.stream()</code> of Java 9.
+	 *
+	 * @param service the service type
+	 * @param classNames the names of the implementation classes
+	 * @param <T> the service type
+	 * @return the new instances by class name
+	 * @throws ReflectiveOperationException if a class cannot be loaded or
+	 *             instantiated
+	 * @throws ClassCastException if a class does not implement the service
+	 */
+	public <T> Map<String, T> createInstances(Class<T> service, Collection<String> classNames)
+			throws ReflectiveOperationException {
+		Set<String> missing = new HashSet<>(classNames);
+		Map<String, T> instances = new HashMap<>();
+		ClassLoader classLoader = getClassloader();
+		if (classLoader == null) {
+			classLoader = ClassLoadingUtil.class.getClassLoader();
+		}
+		try {
+			Iterator<T> providers = ServiceLoader.load(service, classLoader).iterator();
+			while (!missing.isEmpty() && providers.hasNext()) {
+				T provider = providers.next();
+				if (missing.remove(provider.getClass().getName())) {
+					instances.put(provider.getClass().getName(), provider);
+				}
+			}
+		} catch (ServiceConfigurationError e) {
+			LOG.log(Level.WARNING, "Cannot load providers of " + service.getName() + ". Using class names.", e);
+		}
+		for (String className : missing) {
+			instances.put(className, service.cast(loadClass(className).getDeclaredConstructor().newInstance()));
+		}
+		return instances;
+	}
+
 	/**
 	 * Loads the class by class name with the current threads context
 	 * classloader. If there occurs an exception the class will be loaded by
@@ -0,0 +1,214 @@
+package de.jollyday.util;
+
+import de.jollyday.Holiday;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Immutable set of holidays backed by an array sorted by date. Lookups are
+ * binary searches and reads do not lock. Compared to a {@link java.util.HashSet}
+ * it needs no entry object per holiday. Sub set views share the array of their
+ * parent.
+ */
+public final class ImmutableHolidaySet extends AbstractSet<Holiday> implements SortedSet<Holiday> {
+
+	/**
+	 * Orders holidays by date, then properties key and type. Consistent with
+	 * {@link Holiday#equals(Object)}.
+	 */
+	public static final Comparator<Holiday> ORDER = ImmutableHolidaySet::compare;
+
+	private static final ImmutableHolidaySet EMPTY = new ImmutableHolidaySet(new Holiday[0], 0, 0);
+
+	private final Holiday[] holidays;
+	private final int fromIndex;
+	private final int toIndex;
+	private int hashCode;
+
+	private ImmutableHolidaySet(Holiday[] holidays, int fromIndex, int toIndex) {
+		this.holidays = holidays;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	/**
+	 * @return the empty set
+	 */
+	public static ImmutableHolidaySet of() {
+		return EMPTY;
+	}
+
+	/**
+	 * Creates a sorted immutable copy of the holidays. Duplicates are removed.
+	 *
+	 * @param holidays the holidays to copy
+	 * @return the immutable set or the same instance if already immutable
+	 * @throws NullPointerException if the collection contains null
+	 */
+	public static ImmutableHolidaySet copyOf(Collection<? extends Holiday> holidays) {
+		if (holidays instanceof ImmutableHolidaySet) {
+			return (ImmutableHolidaySet) holidays;
+		}
+		Holiday[] sorted = holidays.toArray(new Holiday[0]);
+		if (sorted.length == 0) {
+			return EMPTY;
+		}
+		for (Holiday holiday : sorted) {
+			Objects.requireNonNull(holiday, "holiday is null");
+		}
+		Arrays.sort(sorted, ORDER);
+		int size = 1;
+		for (int i = 1; i < sorted.length; i++) {
+			if (!sorted[i].equals(sorted[size - 1])) {
+				sorted[size++] = sorted[i];
+			}
+		}
+		return new ImmutableHolidaySet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size), 0, size);
+	}
+
+	@Override
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o instanceof Holiday && Arrays.binarySearch(holidays, fromIndex, toIndex, (Holiday) o, ORDER) >= 0;
+	}
+
+	@Override
+	public Iterator<Holiday> iterator() {
+		return new Iterator<Holiday>() {
+			private int position = fromIndex;
+
+			@Override
+			public boolean hasNext() {
+				return position < toIndex;
+			}
+
+			@Override
+			public Holiday next() {
+				if (position >= toIndex) {
+					throw new NoSuchElementException();
+				}
+				return holidays[position++];
+			}
+		};
+	}
+
+	@Override
+	public Spliterator<Holiday> spliterator() {
+		return Spliterators.spliterator(holidays, fromIndex, toIndex,
+				Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+	}
+
+	@Override
+	public Object[] toArray() {
+		return Arrays.copyOfRange(holidays, fromIndex, toIndex, Object[].class);
+	}
+
+	@Override
+	public Comparator<? super Holiday> comparator() {
+		return ORDER;
+	}
+
+	@Override
+	public SortedSet<Holiday> subSet(Holiday fromElement, Holiday toElement) {
+		if (ORDER.compare(fromElement, toElement) > 0) {
+			throw new IllegalArgumentException("fromElement is greater than toElement");
+		}
+		return subSet(lowerBound(fromElement), lowerBound(toElement));
+	}
+
+	@Override
+	public SortedSet<Holiday> headSet(Holiday toElement) {
+		return subSet(fromIndex, lowerBound(toElement));
+	}
+
+	@Override
+	public SortedSet<Holiday> tailSet(Holiday fromElement) {
+		return subSet(lowerBound(fromElement), toIndex);
+	}
+
+	@Override
+	public Holiday first() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return holidays[fromIndex];
+	}
+
+	@Override
+	public Holiday last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return holidays[toIndex - 1];
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = hashCode;
+		if (hash == 0) {
+			for (int i = fromIndex; i < toIndex; i++) {
+				hash += holidays[i].hashCode();
+			}
+			hashCode = hash;
+		}
+		return hash;
+	}
+
+	private static int compare(Holiday first, Holiday second) {
+		int result = first.getDate().compareTo(second.getDate());
+		if (result == 0) {
+			result = compareNullsFirst(first.getPropertiesKey(), second.getPropertiesKey());
+		}
+		if (result == 0) {
+			result = compareNullsFirst(first.getType(), second.getType());
+		}
+		return result;
+	}
+
+	private static <T extends Comparable<T>> int compareNullsFirst(T first, T second) {
+		if (first == second) {
+			return 0;
+		}
+		if (first == null || second == null) {
+			return first == null ? -1 : 1;
+		}
+		return first.compareTo(second);
+	}
+
+	private ImmutableHolidaySet subSet(int from, int to) {
+		return from == fromIndex && to == toIndex ? this : new ImmutableHolidaySet(holidays, from, to);
+	}
+
+	/**
+	 * @return the index of the first holiday which is not less than the
+	 *         provided one, bound to this view
+	 */
+	private int lowerBound(Holiday holiday) {
+		Objects.requireNonNull(holiday, "holiday is null");
+		int low = fromIndex;
+		int high = toIndex;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (ORDER.compare(holidays[middle], holiday) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+}
@@ -29,7 +29,13 @@ import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 import java.io.InputStream;
+import java.lang.ref.SoftReference;
 import java.time.DayOfWeek;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Logger;
 
 public class XMLUtil {
@@ -41,6 +47,18 @@ public class XMLUtil {
 
 	private static final Logger LOG = Logger.getLogger(XMLUtil.class.getName());
 
+	/**
+	 * The created JAXB contexts by class loader and package name. The class
+	 * loaders are weakly referenced and the contexts softly, because each
+	 * context references classes of its class loader.
+	 */
+	private static final Map<ClassLoader, Map<String, SoftReference<JAXBContext>>> CONTEXTS = new WeakHashMap<>();
+	/**
+	 * The idle unmarshallers by context. Softly referenced as each
+	 * unmarshaller references its context.
+	 */
+	private static final Map<JAXBContext, SoftReference<Queue<Unmarshaller>>> UNMARSHALLERS = new WeakHashMap<>();
+
 	private JAXBContextCreator contextCreator = new JAXBContextCreator();
 	private ClassLoadingUtil classLoadingUtil = new ClassLoadingUtil();
 
@@ -67,15 +85,40 @@ public class XMLUtil {
 			if (ctx == null) {
 				ctx = contextCreator.create(XMLUtil.PACKAGE, ObjectFactory.class.getClassLoader());
 			}
-			Unmarshaller um = ctx.createUnmarshaller();
+			Queue<Unmarshaller> unmarshallers = getUnmarshallers(ctx);
+			Unmarshaller um = unmarshallers.poll();
+			if (um == null) {
+				um = ctx.createUnmarshaller();
+			}
 			@SuppressWarnings("unchecked")
 			JAXBElement<Configuration> el = (JAXBElement<Configuration>) um.unmarshal(stream);
+			unmarshallers.offer(um);
 			return el.getValue();
 		} catch (JAXBException ue) {
 			throw new IllegalStateException("Cannot parse holidays XML file.", ue);
 		}
 	}
 
+	/**
+	 * Returns the pool of idle unmarshallers for the context. Unmarshallers are
+	 * not thread safe, so each is used by one thread at a time and returned to
+	 * the pool after a successful unmarshalling.
+	 *
+	 * @param ctx the context to return the pool for
+	 * @return the pool of idle unmarshallers
+	 */
+	private static Queue<Unmarshaller> getUnmarshallers(JAXBContext ctx) {
+		synchronized (UNMARSHALLERS) {
+			SoftReference<Queue<Unmarshaller>> reference = UNMARSHALLERS.get(ctx);
+			Queue<Unmarshaller> unmarshallers = reference == null ? null : reference.get();
+			if (unmarshallers == null) {
+				unmarshallers = new ConcurrentLinkedQueue<>();
+				UNMARSHALLERS.put(ctx, new SoftReference<>(unmarshallers));
+			}
+			return unmarshallers;
+		}
+	}
+
 	/**
 	 * Returns the {@link DayOfWeek} equivalent for the given weekday.
 	 *
@@ -116,9 +159,42 @@ public class XMLUtil {
 		}
 	}
 
+	/**
+	 * Creates the JAXB contexts once per class loader and package and reuses
+	 * them afterwards.
+	 */
 	public class JAXBContextCreator {
 		public JAXBContext create(String packageName, ClassLoader classLoader) throws JAXBException {
-			return JAXBContext.newInstance(packageName, classLoader);
+			JAXBContext ctx = getCachedContext(packageName, classLoader);
+			if (ctx == null) {
+				ctx = JAXBContext.newInstance(packageName, classLoader);
+				ctx = cacheContext(packageName, classLoader, ctx);
+			}
+			return ctx;
+		}
+	}
+
+	private static JAXBContext getCachedContext(String packageName, ClassLoader classLoader) {
+		synchronized (CONTEXTS) {
+			Map<String, SoftReference<JAXBContext>> contexts = CONTEXTS.get(classLoader);
+			SoftReference<JAXBContext> reference = contexts == null ? null : contexts.get(packageName);
+			return reference == null ? null : reference.get();
+		}
+	}
+
+	/**
+	 * Caches the context unless another thread was faster.
+	 *
+	 * @return the cached context
+	 */
+	private static JAXBContext cacheContext(String packageName, ClassLoader classLoader, JAXBContext ctx) {
+		synchronized (CONTEXTS) {
+			JAXBContext cached = getCachedContext(packageName, classLoader);
+			if (cached != null) {
+				return cached;
+			}
+			CONTEXTS.computeIfAbsent(classLoader, k -> new HashMap<>()).put(packageName, new SoftReference<>(ctx));
+			return ctx;
 		}
 	}
 
@@ -1,9 +1,34 @@
 module de.jollyday {
     requires java.logging;
+    requires java.management;
+    requires java.xml;
     requires java.xml.bind;
-    requires java.desktop;
 
     requires org.threeten.extra;
 
     exports de.jollyday;
+
+    uses de.jollyday.HolidayManager;
+    uses de.jollyday.datasource.ConfigurationDataSource;
+    uses de.jollyday.parser.HolidayParser;
+
+    provides de.jollyday.HolidayManager with
+            de.jollyday.impl.DefaultHolidayManager,
+            de.jollyday.impl.JapaneseHolidayManager;
+    provides de.jollyday.datasource.ConfigurationDataSource with
+            de.jollyday.datasource.impl.XmlFileDataSource,
+            de.jollyday.datasource.impl.StaxXmlFileDataSource,
+            de.jollyday.datasource.impl.BinaryFileDataSource;
+    provides de.jollyday.parser.HolidayParser with
+            de.jollyday.parser.impl.ChristianHolidayParser,
+            de.jollyday.parser.impl.EthiopianOrthodoxHolidayParser,
+            de.jollyday.parser.impl.FixedParser,
+            de.jollyday.parser.impl.FixedWeekdayBetweenFixedParser,
+            de.jollyday.parser.impl.FixedWeekdayInMonthParser,
+            de.jollyday.parser.impl.FixedWeekdayRelativeToFixedParser,
+            de.jollyday.parser.impl.HinduHolidayParser,
+            de.jollyday.parser.impl.IslamicHolidayParser,
+            de.jollyday.parser.impl.RelativeToEasterSundayParser,
+            de.jollyday.parser.impl.RelativeToFixedParser,
+            de.jollyday.parser.impl.RelativeToWeekdayInMonthParser;
 }
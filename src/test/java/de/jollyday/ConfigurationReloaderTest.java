@@ -0,0 +1,83 @@
+package de.jollyday;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigurationReloaderTest {
+
+	private static final LocalDate NEW_YEAR = LocalDate.of(2020, 1, 1);
+	private static final LocalDate LABOUR_DAY = LocalDate.of(2020, 5, 1);
+
+	@Test
+	public void testReloadInstanceKeepsCachedYears(@TempDir Path directory) throws Exception {
+		Path file = write(directory, "Holidays_reload.xml", "JANUARY", "1");
+		ManagerParameter parameter = ManagerParameters.create(file.toUri().toURL());
+		HolidayManager previous = HolidayManager.getInstance(parameter);
+		assertTrue(previous.isHoliday(NEW_YEAR));
+		previous.isHoliday(NEW_YEAR.plusYears(1));
+
+		write(directory, "Holidays_reload.xml", "MAY", "1");
+		HolidayManager reloaded = HolidayManager.reloadInstance(parameter);
+
+		assertNotSame(previous, reloaded);
+		assertSame(reloaded, HolidayManager.getInstance(parameter));
+		assertEquals(2, reloaded.getHolidayCacheStatistics().getSize());
+		assertTrue(reloaded.isHoliday(LABOUR_DAY));
+		assertFalse(reloaded.isHoliday(NEW_YEAR));
+		assertTrue(previous.isHoliday(NEW_YEAR));
+	}
+
+	@Test
+	public void testFailedReloadKeepsManager(@TempDir Path directory) throws Exception {
+		Path file = write(directory, "Holidays_invalid.xml", "JANUARY", "1");
+		ManagerParameter parameter = ManagerParameters.create(file.toUri().toURL());
+		HolidayManager previous = HolidayManager.getInstance(parameter);
+		Files.write(file, "<invalid".getBytes(StandardCharsets.UTF_8));
+		assertThrows(IllegalStateException.class, () -> HolidayManager.reloadInstance(parameter));
+		assertSame(previous, HolidayManager.getInstance(parameter));
+	}
+
+	@Test
+	public void testChangedFileIsReloaded(@TempDir Path directory) throws Exception {
+		Path file = write(directory, "Holidays_watched.xml", "JANUARY", "1");
+		ManagerParameter parameter = ManagerParameters.create(file.toUri().toURL());
+		HolidayManager previous = HolidayManager.getInstance(parameter);
+		try (ConfigurationReloader reloader = new ConfigurationReloader()) {
+			reloader.watch(parameter);
+			write(directory, "Holidays_watched.xml", "MAY", "1");
+			long deadline = System.currentTimeMillis() + 30_000;
+			while (HolidayManager.getInstance(parameter) == previous && System.currentTimeMillis() < deadline) {
+				Thread.sleep(50);
+			}
+		}
+		HolidayManager reloaded = HolidayManager.getInstance(parameter);
+		assertNotSame(previous, reloaded);
+		assertTrue(reloaded.isHoliday(LABOUR_DAY));
+	}
+
+	@Test
+	public void testOnlyFilesCanBeWatched() throws Exception {
+		try (ConfigurationReloader reloader = new ConfigurationReloader()) {
+			ManagerParameter remote = ManagerParameters.create(new URL("http://localhost/Holidays_remote.xml"));
+			assertThrows(IllegalArgumentException.class, () -> reloader.watch(remote));
+		}
+	}
+
+	private static Path write(Path directory, String name, String month, String day) throws Exception {
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+				+ "<tns:Configuration hierarchy=\"reload\" description=\"Reload\""
+				+ " xmlns:tns=\"http://www.example.org/Holiday\">"
+				+ "<tns:Holidays><tns:Fixed month=\"" + month + "\" day=\"" + day + "\"/></tns:Holidays>"
+				+ "</tns:Configuration>";
+		return Files.write(directory.resolve(name), xml.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
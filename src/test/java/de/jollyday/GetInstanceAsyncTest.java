@@ -0,0 +1,71 @@
+package de.jollyday;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GetInstanceAsyncTest {
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testSharesManagerWithGetInstance(@TempDir Path directory) throws Exception {
+		ManagerParameter parameter = ManagerParameters.create(write(directory).toUri().toURL());
+		CompletableFuture<HolidayManager> first = HolidayManager.getInstanceAsync(parameter, executor);
+		CompletableFuture<HolidayManager> second = HolidayManager.getInstanceAsync(parameter, executor);
+		HolidayManager manager = first.join();
+		assertSame(manager, second.join());
+		assertSame(manager, HolidayManager.getInstance(parameter));
+		assertTrue(manager.isHoliday(LocalDate.of(2020, 1, 1)));
+	}
+
+	@Test
+	public void testCachedManagerIsCompleted() {
+		ManagerParameter parameter = ManagerParameters.create(HolidayCalendar.GERMANY);
+		HolidayManager manager = HolidayManager.getInstance(parameter);
+		CompletableFuture<HolidayManager> future = HolidayManager.getInstanceAsync(parameter, executor);
+		assertTrue(future.isDone());
+		assertSame(manager, future.join());
+	}
+
+	@Test
+	public void testFailedCreationCompletesExceptionally() throws Exception {
+		ManagerParameter missing = ManagerParameters.create(new URL("file:///does/not/exist/Holidays_async.xml"));
+		CompletableFuture<HolidayManager> future = HolidayManager.getInstanceAsync(missing, executor);
+		CompletionException e = assertThrows(CompletionException.class, future::join);
+		assertTrue(e.getCause() instanceof IllegalStateException);
+	}
+
+	private static Path write(Path directory) throws Exception {
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+				+ "<tns:Configuration hierarchy=\"async\" description=\"Async\""
+				+ " xmlns:tns=\"http://www.example.org/Holiday\">"
+				+ "<tns:Holidays><tns:Fixed month=\"JANUARY\" day=\"1\"/></tns:Holidays>"
+				+ "</tns:Configuration>";
+		return Files.write(directory.resolve("Holidays_async.xml"), xml.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,77 @@
+package de.jollyday;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PreloadTest {
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testPreloadManagersAndYears() {
+		ManagerParameter germany = ManagerParameters.create(HolidayCalendar.GERMANY);
+		ManagerParameter usa = ManagerParameters.create(HolidayCalendar.UNITED_STATES);
+		PreloadResult result = HolidayManager.preload(Arrays.asList(germany, usa), 2020, 2022, true, executor)
+				.join();
+
+		assertEquals(2, result.getEntries().size());
+		PreloadResult.Entry germanyEntry = result.getEntries().get(0);
+		assertEquals(germany.getDisplayName(), germanyEntry.getCalendar());
+		assertEquals(3, germanyEntry.getYearCount());
+		assertTrue(germanyEntry.getHierarchyCount() > 1);
+		assertTrue(result.getTotalTime() > 0);
+
+		HolidayManager manager = HolidayManager.getInstance(germany);
+		long size = manager.getHolidayCacheStatistics().getSize();
+		assertTrue(size >= germanyEntry.getHierarchyCount() * 3L);
+		manager.isHoliday(LocalDate.of(2021, 10, 3), "by");
+		assertEquals(size, manager.getHolidayCacheStatistics().getSize());
+	}
+
+	@Test
+	public void testPreloadCountryOnly() {
+		ManagerParameter germany = ManagerParameters.create(HolidayCalendar.GERMANY);
+		PreloadResult result = HolidayManager
+				.preload(Collections.singletonList(germany), 2020, 2020, false, executor).join();
+		assertEquals(1, result.getEntries().get(0).getHierarchyCount());
+		assertEquals(1, result.getEntries().get(0).getYearCount());
+	}
+
+	@Test
+	public void testInvalidYearRange() {
+		assertThrows(IllegalArgumentException.class, () -> HolidayManager
+				.preload(Collections.singletonList(ManagerParameters.create(HolidayCalendar.GERMANY)), 2022, 2020,
+						false));
+	}
+
+	@Test
+	public void testFailedManagerCompletesExceptionally() throws Exception {
+		ManagerParameter missing = ManagerParameters.create(new URL("file:///does/not/exist/Holidays_missing.xml"));
+		CompletableFuture<PreloadResult> future = HolidayManager.preload(Collections.singletonList(missing), 2020,
+				2020, false, executor);
+		assertThrows(CompletionException.class, future::join);
+	}
+
+}
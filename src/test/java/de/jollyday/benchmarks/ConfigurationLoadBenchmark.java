@@ -0,0 +1,83 @@
+package de.jollyday.benchmarks;
+
+import de.jollyday.HolidayCalendar;
+import de.jollyday.ManagerParameter;
+import de.jollyday.ManagerParameters;
+import de.jollyday.config.Configuration;
+import de.jollyday.datasource.impl.BinaryFileDataSource;
+import de.jollyday.datasource.impl.StaxXmlFileDataSource;
+import de.jollyday.datasource.impl.XmlFileDataSource;
+import de.jollyday.util.XMLUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading the configurations of all bundled calendars, as done on
+ * startup when a manager is created for each of them. Run in single shot mode
+ * (-bm ss) with many forks (-f 20) to compare the cold start costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigurationLoadBenchmark {
+
+	private final List<ManagerParameter> parameters = new ArrayList<>();
+
+	@Setup
+	public void setup() {
+		for (HolidayCalendar calendar : HolidayCalendar.values()) {
+			ManagerParameter parameter = ManagerParameters.create(calendar);
+			if (parameter.createResourceUrl() != null) {
+				parameters.add(parameter);
+			}
+		}
+	}
+
+	@Benchmark
+	public void xmlFileDataSource(Blackhole blackhole) {
+		XmlFileDataSource dataSource = new XmlFileDataSource();
+		for (ManagerParameter parameter : parameters) {
+			blackhole.consume(dataSource.getConfiguration(parameter));
+		}
+	}
+
+	@Benchmark
+	public void staxXmlFileDataSource(Blackhole blackhole) {
+		StaxXmlFileDataSource dataSource = new StaxXmlFileDataSource();
+		for (ManagerParameter parameter : parameters) {
+			blackhole.consume(dataSource.getConfiguration(parameter));
+		}
+	}
+
+	@Benchmark
+	public void binaryFileDataSource(Blackhole blackhole) {
+		BinaryFileDataSource dataSource = new BinaryFileDataSource();
+		for (ManagerParameter parameter : parameters) {
+			blackhole.consume(dataSource.getConfiguration(parameter));
+		}
+	}
+
+	/**
+	 * The former behaviour creating a JAXB context and unmarshaller per file.
+	 */
+	@Benchmark
+	public void jaxbContextPerFile(Blackhole blackhole) throws Exception {
+		for (ManagerParameter parameter : parameters) {
+			try (InputStream stream = parameter.createResourceUrl().openStream()) {
+				JAXBContext ctx = JAXBContext.newInstance(XMLUtil.PACKAGE, Configuration.class.getClassLoader());
+				blackhole.consume(((JAXBElement<?>) ctx.createUnmarshaller().unmarshal(stream)).getValue());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+package de.jollyday.benchmarks;
+
+import de.jollyday.Holiday;
+import de.jollyday.HolidayCalendar;
+import de.jollyday.HolidayManager;
+import de.jollyday.ManagerParameters;
+import de.jollyday.util.CalendarUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the easter sunday computation and the uncached computation of the
+ * holidays of the Christian heavy German calendar, which computes the easter
+ * sunday for every Christian rule of a year.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EasterSundayBenchmark {
+
+	private final CalendarUtil calendarUtil = new CalendarUtil();
+	private HolidayManager germany;
+	private int year = 1900;
+
+	@Setup
+	public void setup() {
+		germany = HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY));
+	}
+
+	private int nextYear() {
+		year = year == 2100 ? 1900 : year + 1;
+		return year;
+	}
+
+	@Benchmark
+	public LocalDate gregorianEasterSunday() {
+		return calendarUtil.getGregorianEasterSunday(nextYear());
+	}
+
+	@Benchmark
+	public LocalDate julianEasterSunday() {
+		return calendarUtil.getJulianEasterSunday(nextYear());
+	}
+
+	@Benchmark
+	public Set<Holiday> germanHolidays() {
+		return germany.getHolidays(nextYear(), "by");
+	}
+
+}
@@ -0,0 +1,32 @@
+package de.jollyday.benchmarks;
+
+import de.jollyday.HolidayCalendar;
+import de.jollyday.HolidayManager;
+import de.jollyday.ManagerParameters;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link HolidayManager#getInstance(de.jollyday.ManagerParameter)}
+ * when the manager is already cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetInstanceBenchmark {
+
+	@Setup
+	public void setup() {
+		HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY));
+	}
+
+	@Benchmark
+	public HolidayManager getCachedInstance() {
+		return HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY));
+	}
+
+}
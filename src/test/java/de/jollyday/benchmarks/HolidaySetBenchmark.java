@@ -0,0 +1,81 @@
+package de.jollyday.benchmarks;
+
+import de.jollyday.Holiday;
+import de.jollyday.HolidayCalendar;
+import de.jollyday.HolidayManager;
+import de.jollyday.ManagerParameters;
+import de.jollyday.util.ImmutableHolidaySet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former synchronized {@link HashSet} result of a year with the
+ * {@link ImmutableHolidaySet}. Run with the GC profiler (-prof gc): the
+ * allocation per copy operation is the memory footprint of the set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HolidaySetBenchmark {
+
+	private Set<Holiday> holidays;
+	private Set<Holiday> synchronizedHashSet;
+	private Set<Holiday> immutableSet;
+	private Holiday probe;
+
+	@Setup
+	public void setup() {
+		holidays = new HashSet<>(HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY))
+				.getHolidays(2020, "by"));
+		synchronizedHashSet = copySynchronizedHashSet();
+		immutableSet = copyImmutableSet();
+		probe = immutableSet.iterator().next();
+	}
+
+	@Benchmark
+	public Set<Holiday> copySynchronizedHashSet() {
+		Set<Holiday> set = Collections.synchronizedSet(new HashSet<>());
+		set.addAll(holidays);
+		return set;
+	}
+
+	@Benchmark
+	public Set<Holiday> copyImmutableSet() {
+		return ImmutableHolidaySet.copyOf(holidays);
+	}
+
+	@Benchmark
+	public void iterateSynchronizedHashSet(Blackhole blackhole) {
+		synchronized (synchronizedHashSet) {
+			for (Holiday holiday : synchronizedHashSet) {
+				blackhole.consume(holiday);
+			}
+		}
+	}
+
+	@Benchmark
+	public void iterateImmutableSet(Blackhole blackhole) {
+		for (Holiday holiday : immutableSet) {
+			blackhole.consume(holiday);
+		}
+	}
+
+	@Benchmark
+	public boolean containsSynchronizedHashSet() {
+		return synchronizedHashSet.contains(probe);
+	}
+
+	@Benchmark
+	public boolean containsImmutableSet() {
+		return immutableSet.contains(probe);
+	}
+
+}
@@ -0,0 +1,56 @@
+package de.jollyday.benchmarks;
+
+import de.jollyday.HolidayCalendar;
+import de.jollyday.HolidayManager;
+import de.jollyday.HolidayType;
+import de.jollyday.ManagerParameters;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cache hits of {@link HolidayManager#isHoliday(LocalDate, HolidayType, String...)}
+ * and of the bulk check over 10.000 consecutive epoch days.
+ * Run with the GC profiler (-prof gc) to see the allocation rate per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsHolidayBenchmark {
+
+	private final String[] newYork = { "ny" };
+	private HolidayManager manager;
+	private LocalDate date;
+	private long[] epochDays;
+
+	@Setup
+	public void setup() {
+		manager = HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.UNITED_STATES));
+		date = LocalDate.of(2020, 7, 4);
+		manager.isHoliday(date, HolidayType.OFFICIAL_HOLIDAY, newYork);
+		epochDays = new long[10_000];
+		for (int i = 0; i < epochDays.length; i++) {
+			epochDays[i] = date.toEpochDay() + i;
+		}
+	}
+
+	@Benchmark
+	public boolean isHolidayCountry() {
+		return manager.isHoliday(date, HolidayType.OFFICIAL_HOLIDAY);
+	}
+
+	@Benchmark
+	public boolean isHolidayHierarchy() {
+		return manager.isHoliday(date, HolidayType.OFFICIAL_HOLIDAY, newYork);
+	}
+
+	@Benchmark
+	public boolean[] isHolidayBulk() {
+		return manager.isHoliday(epochDays, HolidayType.OFFICIAL_HOLIDAY, newYork);
+	}
+
+}
@@ -0,0 +1,48 @@
+package de.jollyday.caching;
+
+import de.jollyday.CacheStatisticsMXBean;
+import de.jollyday.HolidayCalendar;
+import de.jollyday.HolidayManager;
+import de.jollyday.ManagerParameters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CacheStatisticsMBeanTest {
+
+	private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+	@AfterEach
+	public void unregister() {
+		HolidayManager.unregisterCacheStatisticsMBean();
+	}
+
+	@Test
+	public void testRegisteredStatistics() throws Exception {
+		HolidayManager manager = HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY));
+		manager.isHoliday(LocalDate.of(2020, 1, 1));
+		HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY));
+		HolidayManager.registerCacheStatisticsMBean();
+		HolidayManager.registerCacheStatisticsMBean();
+
+		ObjectName name = new ObjectName(CacheStatisticsMXBean.OBJECT_NAME);
+		CompositeData managerCache = (CompositeData) server.getAttribute(name, "ManagerCacheStatistics");
+		assertTrue((Long) managerCache.get("hitCount") >= 1);
+		assertTrue((Long) managerCache.get("loadCount") >= 1);
+		assertTrue((Long) managerCache.get("totalLoadTime") > 0);
+		CompositeData holidayCaches = (CompositeData) server.getAttribute(name, "HolidayCacheStatistics");
+		assertTrue((Long) holidayCaches.get("size") >= 1);
+
+		HolidayManager.unregisterCacheStatisticsMBean();
+		assertFalse(server.isRegistered(name));
+	}
+
+}
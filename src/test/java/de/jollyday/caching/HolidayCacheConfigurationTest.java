@@ -0,0 +1,55 @@
+package de.jollyday.caching;
+
+import de.jollyday.CacheStatistics;
+import de.jollyday.HolidayCalendar;
+import de.jollyday.HolidayManager;
+import de.jollyday.ManagerParameter;
+import de.jollyday.ManagerParameters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HolidayCacheConfigurationTest {
+
+	@BeforeEach
+	public void disableManagerCaching() {
+		HolidayManager.setManagerCachingEnabled(false);
+	}
+
+	@AfterEach
+	public void enableManagerCaching() {
+		HolidayManager.setManagerCachingEnabled(true);
+	}
+
+	@Test
+	public void testMaximumSizeFromProperties() {
+		Properties properties = new Properties();
+		properties.setProperty(ManagerParameter.HOLIDAY_CACHE_MAXIMUM_SIZE, "20");
+		HolidayManager manager = HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY, properties));
+		for (int year = 1900; year < 2000; year++) {
+			manager.isHoliday(LocalDate.of(year, 1, 1), "by");
+			manager.isHoliday(LocalDate.of(year, 1, 2), "by");
+		}
+		CacheStatistics statistics = manager.getHolidayCacheStatistics();
+		assertEquals(20, statistics.getSize());
+		assertEquals(100, statistics.getHitCount());
+		assertEquals(100, statistics.getMissCount());
+		assertEquals(80, statistics.getEvictionCount());
+		assertEquals(0.5, statistics.getHitRate());
+	}
+
+	@Test
+	public void testInvalidMaximumSize() {
+		Properties properties = new Properties();
+		properties.setProperty(ManagerParameter.HOLIDAY_CACHE_MAXIMUM_SIZE, "many");
+		assertThrows(IllegalStateException.class,
+				() -> HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY, properties)));
+	}
+
+}
@@ -0,0 +1,123 @@
+package de.jollyday.caching;
+
+import de.jollyday.CacheStatistics;
+import de.jollyday.Holiday;
+import de.jollyday.HolidayType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayYearCacheTest {
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private final HolidayYearCache cache = new HolidayYearCache((key, year) -> {
+		loads.incrementAndGet();
+		Holiday newYear = new Holiday(LocalDate.of(year, 1, 1), "NEW_YEAR", HolidayType.OFFICIAL_HOLIDAY);
+		return new HolidayYearIndex(year, Collections.singleton(newYear));
+	});
+
+	@Test
+	public void testKeysAreInterned() {
+		HierarchyKey usNy = cache.key("us", "ny");
+		assertSame(usNy, cache.key("us", "ny"));
+		assertSame(cache.key(), cache.key((String[]) null));
+		assertNotSame(usNy, cache.key("us"));
+		assertNotSame(usNy, cache.key("us", "NY"));
+		assertArrayEquals(new String[] { "us", "ny" }, usNy.getPath());
+	}
+
+	@Test
+	public void testManyKeys() {
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(String.valueOf(i), cache.key("us", String.valueOf(i)).getPath()[1]);
+		}
+		for (int i = 0; i < 1000; i++) {
+			assertSame(cache.key("us", String.valueOf(i)), cache.key("us", String.valueOf(i)));
+		}
+	}
+
+	@Test
+	public void testOnlyResolvedPathsAreInterned() {
+		HolidayYearCache resolving = new HolidayYearCache(
+				(key, year) -> new HolidayYearIndex(year, Collections.emptySet()),
+				path -> path[0].matches("(?i)ny|nj") ? new String[] { path[0].toLowerCase() } : null);
+		HierarchyKey ny = resolving.key("ny");
+		assertSame(ny, resolving.key("NY"));
+		assertSame(ny, resolving.key("Ny", "unknown"));
+		assertArrayEquals(new String[] { "ny" }, ny.getPath());
+		for (int i = 0; i < 1000; i++) {
+			assertSame(resolving.key(), resolving.key(String.valueOf(i), "ny"));
+		}
+		// neither the unknown nor the differently cased paths were interned
+		assertEquals(1, ny.getId());
+		assertEquals(2, resolving.key("NJ").getId());
+	}
+
+	@Test
+	public void testYearsAreLoadedOnce() {
+		HierarchyKey key = cache.key("us");
+		for (int year = 1600; year <= 2400; year++) {
+			assertTrue(cache.get(key, year).contains(LocalDate.of(year, 1, 1), null));
+			assertSame(cache.get(key, year), cache.get(key, year));
+		}
+		cache.get(cache.key(), 2000);
+		assertEquals(802, loads.get());
+		assertEquals(802, cache.size());
+		cache.clear();
+		assertEquals(0, cache.size());
+		cache.get(key, 2000);
+		assertEquals(803, loads.get());
+	}
+
+	@Test
+	public void testBoundedCacheEvicts() {
+		cache.setMaximumSize(100);
+		HierarchyKey key = cache.key("us");
+		for (int year = 1600; year <= 2400; year++) {
+			assertEquals(year, cache.get(key, year).getYear());
+			assertTrue(cache.size() <= 100);
+		}
+		assertEquals(100, cache.size());
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(801, statistics.getMissCount());
+		assertEquals(701, statistics.getEvictionCount());
+		assertEquals(100, statistics.getSize());
+		// every remaining entry is still found after the evictions shifted the table
+		cache.setMaximumSize(0);
+		for (int year = 1600; year <= 2400; year++) {
+			cache.get(key, year);
+		}
+		assertEquals(801 + 701, loads.get());
+		assertEquals(100, cache.getStatistics().getHitCount());
+	}
+
+	@Test
+	public void testReferencedEntriesSurvive() {
+		cache.setMaximumSize(10);
+		HierarchyKey key = cache.key("us");
+		HolidayYearIndex hot = cache.get(key, 2000);
+		for (int year = 2001; year < 2100; year++) {
+			cache.get(key, year);
+			assertSame(hot, cache.get(key, 2000));
+		}
+	}
+
+	@Test
+	public void testShrinkingMaximumSize() {
+		HierarchyKey key = cache.key("us");
+		for (int year = 2000; year < 2050; year++) {
+			cache.get(key, year);
+		}
+		cache.setMaximumSize(5);
+		assertEquals(5, cache.size());
+		assertEquals(45, cache.getStatistics().getEvictionCount());
+		cache.setMaximumSize(0);
+		assertEquals(Integer.MAX_VALUE, cache.getMaximumSize());
+	}
+
+}
@@ -0,0 +1,116 @@
+package de.jollyday.caching;
+
+import de.jollyday.Holiday;
+import de.jollyday.HolidayType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HolidayYearIndexTest {
+
+	@Test
+	public void testContainsByType() {
+		Set<Holiday> holidays = new HashSet<>();
+		holidays.add(new Holiday(LocalDate.of(2020, 1, 1), "NEW_YEAR", HolidayType.OFFICIAL_HOLIDAY));
+		holidays.add(new Holiday(LocalDate.of(2020, 12, 31), "NEW_YEARS_EVE", HolidayType.UNOFFICIAL_HOLIDAY));
+		HolidayYearIndex index = new HolidayYearIndex(2020, holidays);
+
+		assertTrue(index.contains(LocalDate.of(2020, 1, 1), null));
+		assertTrue(index.contains(LocalDate.of(2020, 1, 1), HolidayType.OFFICIAL_HOLIDAY));
+		assertFalse(index.contains(LocalDate.of(2020, 1, 1), HolidayType.UNOFFICIAL_HOLIDAY));
+		assertTrue(index.contains(LocalDate.of(2020, 12, 31), null));
+		assertTrue(index.contains(LocalDate.of(2020, 12, 31), HolidayType.UNOFFICIAL_HOLIDAY));
+		assertFalse(index.contains(LocalDate.of(2020, 12, 31), HolidayType.OFFICIAL_HOLIDAY));
+		assertFalse(index.contains(LocalDate.of(2020, 12, 30), null));
+	}
+
+	@Test
+	public void testContainsOnlyDatesOfIndexedYear() {
+		Set<Holiday> holidays = new HashSet<>();
+		holidays.add(new Holiday(LocalDate.of(2021, 12, 31), "NEW_YEAR", HolidayType.OFFICIAL_HOLIDAY));
+		HolidayYearIndex index = new HolidayYearIndex(2022, holidays);
+
+		assertFalse(index.contains(LocalDate.of(2021, 12, 31), null));
+		assertFalse(index.contains(LocalDate.of(2022, 12, 31), null));
+	}
+
+	@Test
+	public void testIndexesAdjacentHolidaysWithinYear() {
+		Holiday movedNewYear = new Holiday(LocalDate.of(2021, 12, 31), "NEW_YEAR", HolidayType.OFFICIAL_HOLIDAY);
+		Holiday nextNewYear = new Holiday(LocalDate.of(2022, 1, 1), "NEW_YEAR", HolidayType.OFFICIAL_HOLIDAY);
+		Set<Holiday> adjacentHolidays = new HashSet<>();
+		adjacentHolidays.add(movedNewYear);
+		adjacentHolidays.add(nextNewYear);
+		AtomicInteger calls = new AtomicInteger();
+		HolidayYearIndex index = new HolidayYearIndex(2021, new HashSet<>(), () -> {
+			calls.incrementAndGet();
+			return adjacentHolidays;
+		}, 0);
+
+		// only the holidays computed for the year are contained
+		assertFalse(index.contains(LocalDate.of(2021, 12, 31), null));
+		assertEquals(0, calls.get());
+		assertEquals(1, index.getSortedHolidayCount());
+		assertSame(movedNewYear, index.findFirstOnOrAfter(LocalDate.of(2021, 12, 1).toEpochDay(), null));
+		assertFalse(index.isBusinessDay(365, null));
+		assertTrue(index.isBusinessDay(364, null));
+		assertEquals(1, calls.get());
+		assertTrue(index.getHolidays().isEmpty());
+	}
+
+	@Test
+	public void testBusinessDays() {
+		Set<Holiday> holidays = new HashSet<>();
+		holidays.add(new Holiday(LocalDate.of(2020, 1, 1), "NEW_YEAR", HolidayType.OFFICIAL_HOLIDAY));
+		holidays.add(new Holiday(LocalDate.of(2020, 1, 6), "EPIPHANY", HolidayType.UNOFFICIAL_HOLIDAY));
+		HolidayYearIndex index = new HolidayYearIndex(2020, holidays);
+
+		// 2020-01-04 and 2020-01-05 are a weekend
+		assertTrue(index.isWeekend(4));
+		assertFalse(index.isBusinessDay(1, null));
+		assertFalse(index.isBusinessDay(6, null));
+		assertTrue(index.isBusinessDay(6, HolidayType.OFFICIAL_HOLIDAY));
+		assertEquals(0, index.countBusinessDays(0, null));
+		assertEquals(2, index.countBusinessDays(6, null));
+		assertEquals(3, index.countBusinessDays(6, HolidayType.OFFICIAL_HOLIDAY));
+		assertEquals(262 - 2, index.countBusinessDays(null));
+		assertEquals(2, index.getBusinessDay(1, null));
+		assertEquals(7, index.getBusinessDay(3, null));
+		assertEquals(6, index.getBusinessDay(3, HolidayType.OFFICIAL_HOLIDAY));
+		assertEquals(366, index.getBusinessDay(260, null));
+		assertThrows(IllegalArgumentException.class, () -> index.getBusinessDay(261, null));
+	}
+
+	@Test
+	public void testFindFirstAndLast() {
+		Holiday newYear = new Holiday(LocalDate.of(2020, 1, 1), "NEW_YEAR", HolidayType.OFFICIAL_HOLIDAY);
+		Holiday epiphany = new Holiday(LocalDate.of(2020, 1, 6), "EPIPHANY", HolidayType.UNOFFICIAL_HOLIDAY);
+		Holiday christmas = new Holiday(LocalDate.of(2020, 12, 25), "CHRISTMAS", HolidayType.OFFICIAL_HOLIDAY);
+		Set<Holiday> holidays = new HashSet<>();
+		holidays.add(christmas);
+		holidays.add(epiphany);
+		holidays.add(newYear);
+		HolidayYearIndex index = new HolidayYearIndex(2020, holidays);
+
+		long epiphanyDay = epiphany.getDate().toEpochDay();
+		assertSame(epiphany, index.findFirstOnOrAfter(epiphanyDay, null));
+		assertSame(christmas, index.findFirstOnOrAfter(epiphanyDay, HolidayType.OFFICIAL_HOLIDAY));
+		assertSame(christmas, index.findFirstOnOrAfter(epiphanyDay + 1, null));
+		assertNull(index.findFirstOnOrAfter(christmas.getDate().toEpochDay() + 1, null));
+		assertSame(epiphany, index.findLastOnOrBefore(epiphanyDay, null));
+		assertSame(newYear, index.findLastOnOrBefore(epiphanyDay, HolidayType.OFFICIAL_HOLIDAY));
+		assertSame(newYear, index.findLastOnOrBefore(epiphanyDay - 1, null));
+		assertNull(index.findLastOnOrBefore(newYear.getDate().toEpochDay() - 1, null));
+	}
+
+}
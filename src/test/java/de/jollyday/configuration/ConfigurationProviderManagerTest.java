@@ -11,6 +11,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -75,6 +77,28 @@ public class ConfigurationProviderManagerTest {
 		assertEquals("NewImpl", managerParameter.getProperty("manager.impl"), "Wrong value for property: manager.impl");
 	}
 
+	@Test
+	public void testProviderPropertiesAreReadOnce() {
+		configurationProviderManager.mergeConfigurationProperties(managerParameter);
+		configurationProviderManager.mergeConfigurationProperties(ManagerParameters.create((String) null));
+		verify(defaultConfigurationProvider, times(1)).getProperties();
+		verify(urlConfigurationProvider, times(1)).getProperties();
+	}
+
+	@Test
+	public void testProviderPropertiesAreReadAgainOnChange() {
+		configurationProviderManager.mergeConfigurationProperties(managerParameter);
+		System.setProperty(ConfigurationProvider.CONFIG_PROVIDERS_PROPERTY, getClass().getPackage().getName()
+				+ ".TestProvider");
+		ManagerParameter changed = ManagerParameters.create((String) null);
+		configurationProviderManager.mergeConfigurationProperties(changed);
+		assertEquals("value", changed.getProperty("key"));
+		configurationProviderManager.refresh();
+		configurationProviderManager.mergeConfigurationProperties(ManagerParameters.create((String) null));
+		verify(defaultConfigurationProvider, times(3)).getProperties();
+		assertNull(managerParameter.getProperty("key"));
+	}
+
 	private void assertResult(ManagerParameter parameter) {
 		assertNotNull(parameter);
 		verify(defaultConfigurationProvider).getProperties();
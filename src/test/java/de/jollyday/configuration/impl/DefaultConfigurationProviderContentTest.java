@@ -20,7 +20,7 @@ public class DefaultConfigurationProviderContentTest {
 			"parser.impl.de.jollyday.config.FixedWeekdayBetweenFixed",
 			"parser.impl.de.jollyday.config.FixedWeekdayRelativeToFixed",
 			"parser.impl.de.jollyday.config.EthiopianOrthodoxHoliday",
-			"parser.impl.de.jollyday.config.RelativeToEasterSunday"));
+			"parser.impl.de.jollyday.config.RelativeToEasterSunday", "holiday.cache.maximum.size"));
 
 	DefaultConfigurationProvider configurationProvider = new DefaultConfigurationProvider();
 
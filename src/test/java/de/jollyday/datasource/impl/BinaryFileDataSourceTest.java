@@ -0,0 +1,192 @@
+package de.jollyday.datasource.impl;
+
+import de.jollyday.HolidayCalendar;
+import de.jollyday.ManagerParameter;
+import de.jollyday.ManagerParameters;
+import de.jollyday.config.Configuration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static de.jollyday.datasource.impl.StaxXmlFileDataSourceTest.assertSameProperties;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryFileDataSourceTest {
+
+	private final BinaryFileDataSource binaryDataSource = new BinaryFileDataSource();
+	private final XmlFileDataSource xmlDataSource = new XmlFileDataSource();
+
+	@Test
+	public void testCompiledCalendarsAreBundled() throws Exception {
+		for (HolidayCalendar calendar : HolidayCalendar.values()) {
+			ManagerParameter parameter = ManagerParameters.create(calendar);
+			URL resourceUrl = parameter.createResourceUrl();
+			if (resourceUrl == null) {
+				continue;
+			}
+			String path = resourceUrl.getPath();
+			String binaryName = "/holidays/" + path.substring(path.lastIndexOf('/') + 1).replace(".xml",
+					BinaryFileDataSource.FILE_EXTENSION);
+			try (InputStream inputStream = BinaryFileDataSource.class.getResourceAsStream(binaryName)) {
+				assertNotNull(inputStream, binaryName);
+				assertSameProperties(calendar.getId(), xmlDataSource.getConfiguration(parameter),
+						BinaryFileDataSource.read(inputStream));
+			}
+		}
+	}
+
+	@Test
+	public void testReadsBinaryNextToXml(@TempDir Path directory) throws Exception {
+		Configuration australia = xmlDataSource
+				.getConfiguration(ManagerParameters.create(HolidayCalendar.AUSTRALIA));
+		Path xml = directory.resolve("Holidays_custom.xml");
+		Files.write(xml, "<invalid/>".getBytes(StandardCharsets.UTF_8));
+		try (OutputStream outputStream = Files.newOutputStream(directory.resolve("Holidays_custom.bin"))) {
+			BinaryConfigurationCompiler.write(australia, outputStream);
+		}
+		ManagerParameter parameter = ManagerParameters.create(xml.toUri().toURL());
+		assertSameProperties("custom", australia, binaryDataSource.getConfiguration(parameter));
+	}
+
+	@Test
+	public void testIgnoresStaleBinary(@TempDir Path directory) throws Exception {
+		ManagerParameter test = ManagerParameters.create("test");
+		Path xml = directory.resolve("Holidays_custom.xml");
+		Files.copy(Paths.get(test.createResourceUrl().toURI()), xml);
+		Path binary = directory.resolve("Holidays_custom.bin");
+		try (OutputStream outputStream = Files.newOutputStream(binary)) {
+			BinaryConfigurationCompiler.write(xmlDataSource
+					.getConfiguration(ManagerParameters.create(HolidayCalendar.AUSTRALIA)), outputStream);
+		}
+		Files.setLastModifiedTime(xml, FileTime.fromMillis(Files.getLastModifiedTime(binary).toMillis() + 10000));
+		ManagerParameter parameter = ManagerParameters.create(xml.toUri().toURL());
+		assertSameProperties("custom", xmlDataSource.getConfiguration(test),
+				binaryDataSource.getConfiguration(parameter));
+	}
+
+	@Test
+	public void testReadsBinaryWithinJar(@TempDir Path directory) throws Exception {
+		Configuration australia = xmlDataSource
+				.getConfiguration(ManagerParameters.create(HolidayCalendar.AUSTRALIA));
+		Path jar = directory.resolve("custom.jar");
+		try (JarOutputStream outputStream = new JarOutputStream(Files.newOutputStream(jar))) {
+			JarEntry binary = new JarEntry("Holidays_custom.bin");
+			binary.setTime(0);
+			outputStream.putNextEntry(binary);
+			BinaryConfigurationCompiler.write(australia, outputStream);
+			outputStream.putNextEntry(new JarEntry("Holidays_custom.xml"));
+			outputStream.write("<invalid/>".getBytes(StandardCharsets.UTF_8));
+		}
+		URL xml = new URL("jar:" + jar.toUri() + "!/Holidays_custom.xml");
+		assertSameProperties("custom", australia, binaryDataSource.getConfiguration(ManagerParameters.create(xml)));
+	}
+
+	@Test
+	public void testRequestsOnlyHeadersOfHttpXml() throws Exception {
+		Configuration australia = xmlDataSource
+				.getConfiguration(ManagerParameters.create(HolidayCalendar.AUSTRALIA));
+		ByteArrayOutputStream binary = new ByteArrayOutputStream();
+		BinaryConfigurationCompiler.write(australia, binary);
+		List<String> requests = new ArrayList<>();
+		URLStreamHandler handler = new URLStreamHandler() {
+			@Override
+			protected URLConnection openConnection(URL url) {
+				return new HttpURLConnection(url) {
+					@Override
+					public void connect() {
+						if (!connected) {
+							connected = true;
+							requests.add(getRequestMethod() + " " + url.getPath());
+						}
+					}
+
+					@Override
+					public InputStream getInputStream() {
+						connect();
+						return new ByteArrayInputStream(binary.toByteArray());
+					}
+
+					@Override
+					public long getLastModified() {
+						connect();
+						return 1000;
+					}
+
+					@Override
+					public void disconnect() {
+						requests.add("disconnect " + url.getPath());
+					}
+
+					@Override
+					public boolean usingProxy() {
+						return false;
+					}
+				};
+			}
+		};
+		URL xml = new URL("http", "localhost", 80, "/Holidays_custom.xml", handler);
+		assertSameProperties("custom", australia, binaryDataSource.getConfiguration(ManagerParameters.create(xml)));
+		assertEquals(Arrays.asList("GET /Holidays_custom.bin", "HEAD /Holidays_custom.xml",
+				"disconnect /Holidays_custom.xml"), requests);
+	}
+
+	@Test
+	public void testCompilesApplicationConfigurations(@TempDir Path directory) throws Exception {
+		ManagerParameter test = ManagerParameters.create("test");
+		Path source = Files.createDirectory(directory.resolve("source"));
+		Path xml = source.resolve("Holidays_custom.xml");
+		Files.copy(Paths.get(test.createResourceUrl().toURI()), xml);
+		Path target = directory.resolve("target");
+		BinaryConfigurationCompiler.main(new String[] { "src/main/xsd/Holiday.xsd", source.toString(),
+				target.toString() });
+		Path binary = Files.move(target.resolve("Holidays_custom.bin"), source.resolve("Holidays_custom.bin"));
+		Files.write(xml, "<invalid/>".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(xml, FileTime.fromMillis(Files.getLastModifiedTime(binary).toMillis() - 10000));
+		ManagerParameter parameter = ManagerParameters.create(xml.toUri().toURL());
+		assertSameProperties("custom", xmlDataSource.getConfiguration(test),
+				binaryDataSource.getConfiguration(parameter));
+	}
+
+	@Test
+	public void testWriteAndRead() throws Exception {
+		Configuration configuration = xmlDataSource
+				.getConfiguration(ManagerParameters.create(HolidayCalendar.AUSTRALIA));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		BinaryConfigurationCompiler.write(configuration, outputStream);
+		Configuration read = BinaryFileDataSource.read(new ByteArrayInputStream(outputStream.toByteArray()));
+		assertSameProperties("au", configuration, read);
+	}
+
+	@Test
+	public void testFallsBackToXml() throws Exception {
+		ManagerParameter parameter = ManagerParameters.create("test");
+		assertSameProperties("test", xmlDataSource.getConfiguration(parameter),
+				binaryDataSource.getConfiguration(parameter));
+	}
+
+	@Test
+	public void testRejectsOtherContent() {
+		byte[] content = "<tns:Configuration/>".getBytes(StandardCharsets.UTF_8);
+		assertThrows(IOException.class, () -> BinaryFileDataSource.read(new ByteArrayInputStream(content)));
+	}
+
+}
@@ -0,0 +1,101 @@
+package de.jollyday.datasource.impl;
+
+import de.jollyday.HolidayCalendar;
+import de.jollyday.ManagerParameter;
+import de.jollyday.ManagerParameters;
+import de.jollyday.config.Configuration;
+import de.jollyday.config.Fixed;
+import de.jollyday.config.Month;
+import de.jollyday.config.Weekday;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StaxXmlFileDataSourceTest {
+
+	private final StaxXmlFileDataSource staxDataSource = new StaxXmlFileDataSource();
+
+	@Test
+	public void testSameConfigurationAsJaxb() throws Exception {
+		XmlFileDataSource jaxbDataSource = new XmlFileDataSource();
+		for (HolidayCalendar calendar : HolidayCalendar.values()) {
+			ManagerParameter parameter = ManagerParameters.create(calendar);
+			if (parameter.createResourceUrl() == null) {
+				continue;
+			}
+			assertSameProperties(calendar.getId(), jaxbDataSource.getConfiguration(parameter),
+					staxDataSource.getConfiguration(parameter));
+		}
+	}
+
+	@Test
+	public void testReadsWeekendAndSkipsUnknownElements() throws Exception {
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+				+ "<tns:Configuration hierarchy=\"xx\" description=\"Test\" xmlns:tns=\"http://www.example.org/Holiday\">"
+				+ "<tns:Holidays><tns:Unknown><tns:Fixed month=\"MAY\" day=\"2\"/></tns:Unknown>"
+				+ "<tns:Fixed month=\"MAY\" day=\" 1 \"><!-- comment --><tns:MovingCondition substitute=\"SUNDAY\" with=\"NEXT\" weekday=\"MONDAY\"/></tns:Fixed>"
+				+ "</tns:Holidays><tns:Weekend validFrom=\"2000\"><tns:Day>FRIDAY</tns:Day><tns:Day>SATURDAY</tns:Day></tns:Weekend>"
+				+ "</tns:Configuration>";
+		Configuration configuration = staxDataSource
+				.readConfiguration(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+		assertEquals("xx", configuration.getHierarchy());
+		assertEquals(1, configuration.getHolidays().getFixed().size());
+		Fixed fixed = configuration.getHolidays().getFixed().get(0);
+		assertEquals(Month.MAY, fixed.getMonth());
+		assertEquals(Integer.valueOf(1), fixed.getDay());
+		assertEquals(Weekday.MONDAY, fixed.getMovingCondition().get(0).getWeekday());
+		assertEquals(Integer.valueOf(2000), configuration.getWeekend().get(0).getValidFrom());
+		assertEquals(2, configuration.getWeekend().get(0).getDay().size());
+		assertTrue(configuration.getSubConfigurations().isEmpty());
+	}
+
+	@Test
+	public void testOtherRootElementFails() {
+		byte[] xml = "<Other/>".getBytes(StandardCharsets.UTF_8);
+		assertThrows(XMLStreamException.class, () -> staxDataSource.readConfiguration(new ByteArrayInputStream(xml)));
+	}
+
+	@Test
+	public void testMissingResourceFails() throws Exception {
+		ManagerParameter parameter = mock(ManagerParameter.class);
+		when(parameter.createResourceUrl()).thenReturn(new URL("file:holidays/Holidays_missing.xml"));
+		assertThrows(IllegalStateException.class, () -> staxDataSource.getConfiguration(parameter));
+	}
+
+	static void assertSameProperties(String path, Object expected, Object actual) throws Exception {
+		if (expected == null || actual == null || !expected.getClass().getName().startsWith("de.jollyday.config.")
+				|| expected.getClass().isEnum()) {
+			assertEquals(expected, actual, path);
+			return;
+		}
+		assertEquals(expected.getClass(), actual.getClass(), path);
+		for (Method method : expected.getClass().getMethods()) {
+			if ((method.getName().startsWith("get") || method.getName().startsWith("is"))
+					&& method.getParameterCount() == 0 && method.getDeclaringClass() != Object.class) {
+				Object expectedValue = method.invoke(expected);
+				Object actualValue = method.invoke(actual);
+				String propertyPath = path + "." + method.getName();
+				if (expectedValue instanceof List) {
+					List<?> expectedList = (List<?>) expectedValue;
+					List<?> actualList = (List<?>) actualValue;
+					assertEquals(expectedList.size(), actualList.size(), propertyPath);
+					for (int i = 0; i < expectedList.size(); i++) {
+						assertSameProperties(propertyPath + "[" + i + "]", expectedList.get(i), actualList.get(i));
+					}
+				} else {
+					assertSameProperties(propertyPath, expectedValue, actualValue);
+				}
+			}
+		}
+	}
+
+}
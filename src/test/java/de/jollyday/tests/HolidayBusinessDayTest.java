@@ -0,0 +1,94 @@
+package de.jollyday.tests;
+
+import de.jollyday.HolidayCalendar;
+import de.jollyday.HolidayManager;
+import de.jollyday.HolidayType;
+import de.jollyday.ManagerParameters;
+import de.jollyday.RegionCalendar;
+import de.jollyday.util.CalendarUtil;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HolidayBusinessDayTest {
+
+	private final CalendarUtil calendarUtil = new CalendarUtil();
+	private final HolidayManager manager = HolidayManager
+			.getInstance(ManagerParameters.create(HolidayCalendar.UNITED_STATES));
+
+	@Test
+	public void testIsBusinessDay() {
+		assertTrue(manager.isBusinessDay(LocalDate.of(2020, 7, 3)));
+		assertFalse(manager.isBusinessDay(LocalDate.of(2020, 7, 4)));
+		assertFalse(manager.isBusinessDay(LocalDate.of(2020, 9, 7), "ny"));
+		assertTrue(manager.isBusinessDay(LocalDate.of(2020, 7, 6)));
+		assertTrue(manager.isBusinessDay(LocalDate.of(2020, 7, 6), HolidayType.OFFICIAL_HOLIDAY, "ny"));
+	}
+
+	@Test
+	public void testAddBusinessDays() {
+		LocalDate newYearsEve = LocalDate.of(2020, 12, 31);
+		assertEquals(newYearsEve, manager.addBusinessDays(newYearsEve, 0));
+		assertEquals(LocalDate.of(2021, 1, 4), manager.addBusinessDays(newYearsEve, 1));
+		assertEquals(LocalDate.of(2020, 12, 30), manager.addBusinessDays(newYearsEve, -1));
+		assertEquals(LocalDate.of(2020, 12, 30), manager.addBusinessDays(LocalDate.of(2021, 1, 1), -2));
+	}
+
+	@Test
+	public void testHolidaysMovedIntoPreviousYear() {
+		HolidayManager nyse = HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.NYSE));
+		LocalDate newYearObserved = LocalDate.of(2021, 12, 31);
+		assertFalse(nyse.isBusinessDay(newYearObserved));
+		assertEquals(LocalDate.of(2022, 1, 3), nyse.addBusinessDays(LocalDate.of(2021, 12, 30), 1));
+		assertEquals(LocalDate.of(2021, 12, 30), nyse.addBusinessDays(LocalDate.of(2022, 1, 3), -1));
+		// 2021-12-27 to 2021-12-30 and 2022-01-03
+		assertEquals(5, nyse.countBusinessDays(LocalDate.of(2021, 12, 24), LocalDate.of(2022, 1, 3)));
+		assertEquals(4, nyse.countBusinessDays(LocalDate.of(2021, 12, 24), newYearObserved));
+	}
+
+	@Test
+	public void testMatchesDayByDayCounting() {
+		RegionCalendar newYork = manager.forRegion("ny");
+		LocalDate start = LocalDate.of(2019, 11, 15);
+		int count = 0;
+		LocalDate last = start;
+		for (LocalDate date = start.plusDays(1); date.getYear() < 2023; date = date.plusDays(1)) {
+			boolean businessDay = !calendarUtil.isWeekend(date) && !newYork.isHoliday(date);
+			assertEquals(businessDay, newYork.isBusinessDay(date), date.toString());
+			if (businessDay) {
+				count++;
+				last = date;
+				assertEquals(date, newYork.addBusinessDays(start, count));
+				assertEquals(start, newYork.addBusinessDays(date, -count));
+			}
+			assertEquals(count, newYork.countBusinessDays(start, date));
+			assertEquals(-count, newYork.countBusinessDays(date, start));
+			assertEquals(last, newYork.addBusinessDays(start, count));
+		}
+	}
+
+	@Test
+	public void testConfiguredWeekend() {
+		HolidayManager saudiArabia = HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.SAUDI_ARABIA));
+		assertTrue(saudiArabia.isWeekend(LocalDate.of(2012, 3, 1)));
+		assertFalse(saudiArabia.isWeekend(LocalDate.of(2012, 3, 3)));
+		assertFalse(saudiArabia.isWeekend(LocalDate.of(2013, 10, 3)));
+		assertTrue(saudiArabia.isWeekend(LocalDate.of(2013, 10, 5)));
+
+		HolidayManager emirates = HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.UNITED_ARAB_EMIRATES));
+		// 2021-12-30 is a Thursday followed by the Friday/Saturday weekend
+		assertEquals(LocalDate.of(2021, 12, 30), emirates.addBusinessDays(LocalDate.of(2021, 12, 26), 4));
+		assertEquals(LocalDate.of(2022, 1, 3), emirates.addBusinessDays(LocalDate.of(2021, 12, 30), 1));
+		assertTrue(emirates.forRegion().isWeekend(LocalDate.of(2022, 1, 2)));
+
+		HolidayManager egypt = HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.EGYPT));
+		assertTrue(egypt.isBusinessDay(LocalDate.of(2020, 3, 1)));
+		assertFalse(egypt.isBusinessDay(LocalDate.of(2020, 3, 6)));
+		assertEquals(5, egypt.countBusinessDays(LocalDate.of(2020, 2, 29), LocalDate.of(2020, 3, 7)));
+	}
+
+}
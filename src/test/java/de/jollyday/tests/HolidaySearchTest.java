@@ -0,0 +1,156 @@
+package de.jollyday.tests;
+
+import de.jollyday.Holiday;
+import de.jollyday.HolidayCalendar;
+import de.jollyday.HolidayManager;
+import de.jollyday.HolidayType;
+import de.jollyday.ManagerParameters;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HolidaySearchTest {
+
+	private final HolidayManager manager = HolidayManager
+			.getInstance(ManagerParameters.create(HolidayCalendar.UNITED_STATES));
+
+	@Test
+	public void testNextHoliday() {
+		assertEquals(LocalDate.of(2020, 12, 25), manager.nextHoliday(LocalDate.of(2020, 12, 25)).get().getDate());
+		assertEquals(LocalDate.of(2021, 1, 1), manager.nextHoliday(LocalDate.of(2020, 12, 26)).get().getDate());
+		assertEquals(LocalDate.of(2021, 1, 1),
+				manager.nextHoliday(LocalDate.of(2020, 12, 26), HolidayType.OFFICIAL_HOLIDAY, "ny").get().getDate());
+	}
+
+	@Test
+	public void testPreviousHoliday() {
+		assertEquals(LocalDate.of(2021, 1, 1), manager.previousHoliday(LocalDate.of(2021, 1, 1)).get().getDate());
+		assertEquals(LocalDate.of(2020, 12, 25), manager.previousHoliday(LocalDate.of(2020, 12, 31)).get().getDate());
+	}
+
+	@Test
+	public void testSearchFindsHolidaysMovedIntoPreviousYear() {
+		HolidayManager nyse = HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.NYSE));
+		assertEquals(LocalDate.of(2021, 12, 31), nyse.nextHoliday(LocalDate.of(2021, 12, 26)).get().getDate());
+		assertEquals(LocalDate.of(2021, 12, 31), nyse.previousHoliday(LocalDate.of(2022, 1, 16)).get().getDate());
+		assertEquals(LocalDate.of(2021, 12, 31), nyse.previousHoliday(LocalDate.of(2021, 12, 31)).get().getDate());
+	}
+
+	@Test
+	public void testIsHolidayConsidersHolidaysOfTheYear() {
+		HolidayManager nyse = HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.NYSE));
+		LocalDate movedNewYear = LocalDate.of(2021, 12, 31);
+		assertFalse(nyse.isHoliday(movedNewYear));
+		assertFalse(nyse.forRegion().isHoliday(movedNewYear));
+		assertFalse(nyse.isHoliday(new long[] { movedNewYear.toEpochDay() }, null)[0]);
+		assertTrue(nyse.getHolidays(2021).stream().noneMatch(h -> h.getDate().equals(movedNewYear)));
+		assertTrue(nyse.getHolidays(2022).stream().anyMatch(h -> h.getDate().equals(movedNewYear)));
+		assertTrue(nyse.getHolidays(LocalDate.of(2021, 12, 1), movedNewYear).stream()
+				.noneMatch(h -> h.getDate().equals(movedNewYear)));
+		// checking a date computes its year only
+		long size = nyse.getHolidayCacheStatistics().getSize();
+		assertFalse(nyse.isHoliday(LocalDate.of(2345, 12, 31)));
+		assertEquals(size + 1, nyse.getHolidayCacheStatistics().getSize());
+	}
+
+	@Test
+	public void testNoHolidayOfType() {
+		assertFalse(manager.nextHoliday(LocalDate.of(2020, 1, 1), HolidayType.UNOFFICIAL_HOLIDAY).isPresent());
+		assertFalse(manager.previousHoliday(LocalDate.of(2020, 1, 1), HolidayType.UNOFFICIAL_HOLIDAY).isPresent());
+	}
+
+	@Test
+	public void testMatchesDayByDaySearch() {
+		for (LocalDate date = LocalDate.of(2019, 6, 1); date.getYear() < 2022; date = date.plusDays(1)) {
+			assertEquals(searchDayByDay(date, 1), manager.nextHoliday(date, "ny").map(Holiday::getDate));
+			assertEquals(searchDayByDay(date, -1), manager.previousHoliday(date, "ny").map(Holiday::getDate));
+		}
+	}
+
+	private Optional<LocalDate> searchDayByDay(LocalDate date, int step) {
+		while (!manager.isHoliday(date, "ny")) {
+			date = date.plusDays(step);
+		}
+		return Optional.of(date);
+	}
+
+	@Test
+	public void testHolidayStreamMatchesRangeQuery() {
+		LocalDate start = LocalDate.of(1999, 7, 5);
+		LocalDate end = LocalDate.of(2031, 11, 11);
+		List<Holiday> holidays = manager.holidays(start, end, "ny").collect(Collectors.toList());
+		Set<Holiday> expected = manager.getHolidays(start, end, "ny");
+		assertEquals(expected, new HashSet<>(holidays));
+		assertEquals(expected.size(), holidays.size());
+		for (int i = 1; i < holidays.size(); i++) {
+			assertFalse(holidays.get(i).getDate().isBefore(holidays.get(i - 1).getDate()));
+		}
+	}
+
+	@Test
+	public void testHolidayStreamContainsHolidaysMovedIntoPreviousYear() {
+		HolidayManager nyse = HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.NYSE));
+		LocalDate start = LocalDate.of(2021, 12, 1);
+		LocalDate end = LocalDate.of(2022, 1, 31);
+		List<Holiday> holidays = nyse.holidays(start, end).collect(Collectors.toList());
+		assertEquals(nyse.getHolidays(start, end), new HashSet<>(holidays));
+		assertTrue(holidays.stream().anyMatch(h -> h.getDate().equals(LocalDate.of(2021, 12, 31))));
+	}
+
+	@Test
+	public void testHolidayStreamIsLazy() {
+		Optional<Holiday> first = manager.holidays(LocalDate.of(2020, 12, 26), LocalDate.MAX)
+				.findFirst();
+		assertEquals(LocalDate.of(2021, 1, 1), first.get().getDate());
+		assertEquals(3, manager.holidays(LocalDate.of(2020, 1, 1), LocalDate.of(9999, 1, 1)).limit(3).count());
+		assertEquals(0, manager.holidays(LocalDate.of(2020, 1, 2), LocalDate.of(2020, 1, 1)).count());
+	}
+
+	@Test
+	public void testBulkIsHoliday() {
+		long[] epochDays = new long[5000];
+		for (int i = 0; i < epochDays.length; i++) {
+			// unsorted input jumping between years
+			epochDays[i] = LocalDate.of(2020, 1, 1).toEpochDay() + (i * 7919L) % 4000;
+		}
+		boolean[] holidays = manager.isHoliday(epochDays, HolidayType.OFFICIAL_HOLIDAY, "ny");
+		BitSet holidayBits = manager.isHolidayBitSet(epochDays, HolidayType.OFFICIAL_HOLIDAY, "ny");
+		for (int i = 0; i < epochDays.length; i++) {
+			boolean expected = manager.isHoliday(LocalDate.ofEpochDay(epochDays[i]), HolidayType.OFFICIAL_HOLIDAY, "ny");
+			assertEquals(expected, holidays[i]);
+			assertEquals(expected, holidayBits.get(i));
+		}
+		assertEquals(0, manager.isHoliday(new long[0], null).length);
+	}
+
+	@Test
+	public void testBulkIsHolidayResolvesEachYearOnce() {
+		long[] epochDays = new long[1000];
+		for (int i = 0; i < epochDays.length; i++) {
+			epochDays[i] = (i % 2 == 0 ? LocalDate.of(2021, 12, 31) : LocalDate.of(2022, 1, 1)).toEpochDay();
+		}
+		long requests = manager.getHolidayCacheStatistics().getRequestCount();
+		boolean[] holidays = manager.isHoliday(epochDays, HolidayType.OFFICIAL_HOLIDAY);
+		assertEquals(requests + 2, manager.getHolidayCacheStatistics().getRequestCount());
+		BitSet holidayBits = manager.isHolidayBitSet(epochDays, HolidayType.OFFICIAL_HOLIDAY);
+		assertEquals(requests + 4, manager.getHolidayCacheStatistics().getRequestCount());
+		for (int i = 0; i < epochDays.length; i++) {
+			assertEquals(i % 2 == 1, holidays[i]);
+			assertEquals(i % 2 == 1, holidayBits.get(i));
+		}
+		epochDays[0] = LocalDate.of(9999, 12, 31).toEpochDay();
+		assertTrue(manager.isHoliday(epochDays, null)[1]);
+		assertTrue(manager.isHolidayBitSet(epochDays, null).get(1));
+	}
+
+}
@@ -223,6 +223,58 @@ public class HolidayTest {
 		assertDates(test_days_l11, holidays);
 	}
 
+	@Test
+	public void testUnknownSubHierarchy() throws Exception {
+		HolidayManager m = HolidayManager.getInstance("test");
+		assertDates(test_days_l1, m.getHolidays(2010, "LEVEL1", "unknown"));
+		assertDates(test_days, m.getHolidays(2010, "unknown", "level2"));
+	}
+
+	@Test
+	public void testUnknownHierarchiesShareCachedYears() throws Exception {
+		HolidayManager m = HolidayManager.getInstance("test");
+		m.isHoliday(LocalDate.of(2031, JANUARY, 1), "level1");
+		long size = m.getHolidayCacheStatistics().getSize();
+		for (int i = 0; i < 100; i++) {
+			m.isHoliday(LocalDate.of(2031, JANUARY, 1), "LEVEL1", "unknown" + i);
+		}
+		assertEquals(size, m.getHolidayCacheStatistics().getSize());
+	}
+
+	@Test
+	public void testRegionCalendar() throws Exception {
+		HolidayManager m = HolidayManager.getInstance("test");
+		RegionCalendar level2 = m.forRegion("level1", "level2");
+		assertArrayEquals(new String[] { "level1", "level2" }, level2.getHierarchy());
+		assertSame(m, level2.getManager());
+		assertDates(test_days_l2, level2.getHolidays(2010));
+		assertDates(test_days_l2, level2.getHolidays(LocalDate.of(2010, JANUARY, 1), LocalDate.of(2010, DECEMBER, 31)));
+		for (LocalDate date = LocalDate.of(2010, JANUARY, 1); date.getYear() == 2010; date = date.plusDays(1)) {
+			assertEquals(test_days_l2.contains(date), level2.isHoliday(date), "Wrong holiday state of " + date);
+			assertEquals(m.isHoliday(date, "level1", "level2"), level2.isHoliday(date));
+		}
+		assertTrue(m.forRegion().isHoliday(LocalDate.of(2010, JANUARY, 1), HolidayType.OFFICIAL_HOLIDAY));
+		assertFalse(m.forRegion().isHoliday(LocalDate.of(2010, JANUARY, 2)));
+	}
+
+	@Test
+	public void testRegionCalendarUsesConfiguredIds() throws Exception {
+		HolidayManager m = HolidayManager.getInstance("test");
+		RegionCalendar level2 = m.forRegion("LEVEL1", "Level2");
+		assertArrayEquals(new String[] { "level1", "level2" }, level2.getHierarchy());
+		assertDates(test_days_l2, level2.getHolidays(2010));
+		level2.isHoliday(LocalDate.of(2032, JANUARY, 1));
+		long size = m.getHolidayCacheStatistics().getSize();
+		m.forRegion("level1", "level2").isHoliday(LocalDate.of(2032, JANUARY, 1));
+		assertEquals(size, m.getHolidayCacheStatistics().getSize());
+	}
+
+	@Test
+	public void testRegionCalendarUnknownHierarchy() throws Exception {
+		HolidayManager m = HolidayManager.getInstance("test");
+		assertThrows(IllegalArgumentException.class, () -> m.forRegion("level1", "unknown"));
+	}
+
 	@Test
 	public void testFail() throws Exception {
 		assertThrows(IllegalArgumentException.class, () -> HolidayManager.getInstance("test_fail"));
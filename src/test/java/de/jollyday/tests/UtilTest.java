@@ -20,8 +20,16 @@ import de.jollyday.HolidayCalendar;
 import de.jollyday.HolidayManager;
 import de.jollyday.util.CalendarUtil;
 import org.junit.jupiter.api.Test;
+import org.threeten.extra.chrono.CopticChronology;
+import org.threeten.extra.chrono.CopticDate;
+import org.threeten.extra.chrono.JulianChronology;
 
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.chrono.HijrahChronology;
+import java.time.chrono.HijrahDate;
+import java.time.temporal.ChronoField;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
@@ -49,6 +57,24 @@ public class UtilTest {
 		assertFalse(calendarUtil.isWeekend(dateMonday));
 	}
 
+	@Test
+	public void testYearOfEpochDay() {
+		for (LocalDate date = LocalDate.of(-1601, 1, 1); date.getYear() < 2402; date = date.plusDays(1)) {
+			assertEquals(date.getYear(), CalendarUtil.getYearOfEpochDay(date.toEpochDay()), date.toString());
+		}
+		assertEquals(LocalDate.MAX.getYear(), CalendarUtil.getYearOfEpochDay(LocalDate.MAX.toEpochDay()));
+		assertEquals(LocalDate.MIN.getYear(), CalendarUtil.getYearOfEpochDay(LocalDate.MIN.toEpochDay()));
+	}
+
+	@Test
+	public void testWeekendMask() {
+		int weekendMask = CalendarUtil.createWeekendMask(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY);
+		assertFalse(calendarUtil.isWeekend(LocalDate.of(2010, MARCH, 11), weekendMask));
+		assertTrue(calendarUtil.isWeekend(LocalDate.of(2010, MARCH, 12), weekendMask));
+		assertTrue(calendarUtil.isWeekend(LocalDate.of(2010, MARCH, 13), weekendMask));
+		assertFalse(calendarUtil.isWeekend(LocalDate.of(2010, MARCH, 14), weekendMask));
+	}
+
 	@Test
 	public void testCalendarIslamicNewYear() {
 		Set<LocalDate> expected = new HashSet<>();
@@ -101,6 +127,72 @@ public class UtilTest {
 		assertEquals(expected, holidays, "Wrong islamic IdAlFitr holidays in 2009.");
 	}
 
+	@Test
+	public void testIslamicHolidaysMatchHijrahChronology() {
+		for (int year = 1883; year <= 2173; year++) {
+			for (int month = 1; month <= 12; month++) {
+				for (int day : new int[] { 1, 10, 29 }) {
+					for (int shift = -1; shift <= 1; shift++) {
+						assertEquals(hijrahDates(year, month, day, shift),
+								calendarUtil.getRelativeIslamicHolidaysInGregorianYear(year, month, day, shift),
+								"Wrong islamic dates " + month + "/" + day + "+" + shift + " in " + year);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testIslamicHolidaysOutsideTable() {
+		assertEquals(-1, CalendarUtil.getRelativeIslamicEpochDaysInGregorianYear(1800, 1, 1, 0, new long[2]));
+		assertThrows(DateTimeException.class, () -> calendarUtil.getIslamicHolidaysInGregorianYear(1800, 1, 1));
+	}
+
+	private static Set<LocalDate> hijrahDates(int year, int month, int day, int shift) {
+		Set<LocalDate> dates = new HashSet<>();
+		int firstYear = HijrahDate.from(LocalDate.of(year, 1, 1).minusDays(1)).get(ChronoField.YEAR);
+		int lastYear = Math.min(firstYear + 2, (int) HijrahChronology.INSTANCE.range(ChronoField.YEAR).getMaximum());
+		for (int hijrahYear = firstYear; hijrahYear <= lastYear; hijrahYear++) {
+			LocalDate date = LocalDate.from(HijrahChronology.INSTANCE.date(hijrahYear, month, 1)).plusDays(day - 1 + shift);
+			if (date.getYear() == year) {
+				dates.add(date);
+			}
+		}
+		return dates;
+	}
+
+	@Test
+	public void testEthiopianOrthodoxHolidaysMatchCopticChronology() {
+		for (int year = -1000; year <= 5000; year++) {
+			for (int month = 1; month <= 13; month++) {
+				for (int day : month < 13 ? new int[] { 1, 10, 17, 30 } : new int[] { 1, 5 }) {
+					assertEquals(copticDates(year, month, day),
+							calendarUtil.getEthiopianOrthodoxHolidaysInGregorianYear(year, month, day),
+							"Wrong ethiopian orthodox dates " + month + "/" + day + " in " + year);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testInvalidEthiopianOrthodoxDay() {
+		assertThrows(DateTimeException.class, () -> calendarUtil.getEthiopianOrthodoxHolidaysInGregorianYear(2020, 13, 6));
+		assertThrows(DateTimeException.class, () -> calendarUtil.getEthiopianOrthodoxHolidaysInGregorianYear(2020, 1, 31));
+		assertThrows(DateTimeException.class, () -> calendarUtil.getEthiopianOrthodoxHolidaysInGregorianYear(2020, 14, 1));
+	}
+
+	private static Set<LocalDate> copticDates(int year, int month, int day) {
+		Set<LocalDate> dates = new HashSet<>();
+		int firstYear = CopticDate.from(LocalDate.of(year, 1, 1)).get(ChronoField.YEAR);
+		for (int copticYear = firstYear; copticYear <= firstYear + 1; copticYear++) {
+			LocalDate date = LocalDate.from(CopticChronology.INSTANCE.date(copticYear, month, day));
+			if (date.getYear() == year) {
+				dates.add(date);
+			}
+		}
+		return dates;
+	}
+
 	@Test
 	public void testEaster2000() {
 		checkEasterDate(2000, 4, 23);
@@ -171,6 +263,28 @@ public class UtilTest {
 		checkEasterDate(2013, 3, 31);
 	}
 
+	@Test
+	public void testJulianEasterSundayMatchesJulianChronology() {
+		for (int year = 1; year <= 5000; year++) {
+			int d = (19 * (year % 19) + 15) % 30;
+			int x = d + (2 * (year % 4) + 4 * (year % 7) - d + 34) % 7 + 114;
+			LocalDate expected = LocalDate.from(JulianChronology.INSTANCE.date(year, x / 31, x % 31 + 1));
+			assertEquals(expected, calendarUtil.getJulianEasterSunday(year), "Wrong julian easter " + year);
+			assertEquals(expected, calendarUtil.getJulianEasterSunday(year), "Wrong cached julian easter " + year);
+		}
+	}
+
+	@Test
+	public void testGregorianEasterSundayWithinEasterDates() {
+		for (int year = 1583; year <= 5000; year++) {
+			LocalDate easterSunday = calendarUtil.getGregorianEasterSunday(year);
+			assertEquals(DayOfWeek.SUNDAY, easterSunday.getDayOfWeek(), "Wrong easter " + year);
+			assertFalse(easterSunday.isBefore(LocalDate.of(year, 3, 22)), "Wrong easter " + year);
+			assertFalse(easterSunday.isAfter(LocalDate.of(year, 4, 25)), "Wrong easter " + year);
+			assertEquals(easterSunday.toEpochDay(), CalendarUtil.getGregorianEasterSundayEpochDay(year));
+		}
+	}
+
 	private void checkEasterDate(Integer year, int month, int day) {
 		assertEquals(LocalDate.of(year, month, day),
 				calendarUtil.getEasterSunday(year),
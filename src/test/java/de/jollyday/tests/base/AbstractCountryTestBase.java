@@ -24,6 +24,7 @@ import de.jollyday.ManagerParameters;
 import de.jollyday.util.CalendarUtil;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -64,7 +65,7 @@ public abstract class AbstractCountryTestBase {
 	private void compareDates(HolidayManager expected, HolidayManager found, CalendarHierarchy h,
 			final List<String> args, int year, boolean assertAllHolidaysChecked) {
 		Set<Holiday> expectedHolidays = expected.getHolidays(year, args.toArray(new String[] {}));
-		Set<Holiday> foundHolidays = found.getHolidays(year, args.toArray(new String[] {}));
+		Set<Holiday> foundHolidays = new HashSet<>(found.getHolidays(year, args.toArray(new String[] {})));
 		for (Holiday expectedHoliday : expectedHolidays) {
 			assertNotNull(expectedHoliday.getDescription(), "Description is null.");
 			if (!calendarUtil.contains(foundHolidays, expectedHoliday.getDate())) {
@@ -0,0 +1,147 @@
+package de.jollyday.util;
+
+import de.jollyday.CacheStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CacheTest {
+
+	private final Cache<String> cache = new Cache<>();
+
+	@Test
+	public void testStatistics() {
+		cache.get(handler("a"));
+		cache.get(handler("a"));
+		cache.get(handler("a"));
+		cache.get(handler("b"));
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.getHitCount());
+		assertEquals(2, statistics.getMissCount());
+		assertEquals(2, statistics.getLoadCount());
+		assertTrue(statistics.getTotalLoadTime() > 0);
+		assertEquals(2, statistics.getSize());
+		assertEquals(0.5, statistics.getHitRate());
+		cache.clear();
+		assertEquals(0, cache.getStatistics().getSize());
+		assertEquals(2, cache.getStatistics().getHitCount());
+	}
+
+	@Test
+	public void testGetIfPresent() {
+		assertNull(cache.getIfPresent("a"));
+		cache.get(handler("a"));
+		assertEquals("A", cache.getIfPresent("a"));
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+	}
+
+	@Test
+	public void testFailedLoadsAreCounted() {
+		assertThrows(IllegalStateException.class, () -> cache.get(new Cache.ValueHandler<String>() {
+			@Override
+			public String getKey() {
+				return "failing";
+			}
+
+			@Override
+			public String createValue() {
+				throw new IllegalStateException("failing");
+			}
+		}));
+		assertEquals(1, cache.getStatistics().getLoadCount());
+		assertEquals(0, cache.getStatistics().getSize());
+	}
+
+	@Test
+	public void testConcurrentLoadsAreShared() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+		Cache.ValueHandler<String> blocking = new Cache.ValueHandler<String>() {
+			@Override
+			public String getKey() {
+				return "a";
+			}
+
+			@Override
+			public String createValue() {
+				loads.incrementAndGet();
+				loading.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+				return "A";
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<String> first = executor.submit(() -> cache.get(blocking));
+			loading.await();
+			Future<String> second = executor.submit(() -> cache.get(blocking));
+			assertEquals("B", cache.get(handler("b")));
+			assertNull(cache.getIfPresent("a"));
+			release.countDown();
+			assertEquals("A", first.get(10, TimeUnit.SECONDS));
+			assertEquals("A", second.get(10, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(1, loads.get());
+		assertEquals(2, cache.getStatistics().getLoadCount());
+	}
+
+	@Test
+	public void testGetAsync() {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertEquals("A", cache.getAsync(handler("a"), executor).join());
+			assertEquals("A", cache.getIfPresent("a"));
+			assertEquals("A", cache.getAsync(handler("a"), Runnable::run).join());
+		} finally {
+			executor.shutdownNow();
+		}
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(1, statistics.getLoadCount());
+		assertEquals(2, statistics.getHitCount());
+	}
+
+	@Test
+	public void testRejectedGetAsyncIsNotCached() {
+		CompletableFuture<String> future = cache.getAsync(handler("a"), command -> {
+			throw new RejectedExecutionException();
+		});
+		assertTrue(future.isCompletedExceptionally());
+		assertEquals("A", cache.get(handler("a")));
+	}
+
+	private static Cache.ValueHandler<String> handler(String key) {
+		return new Cache.ValueHandler<String>() {
+			@Override
+			public String getKey() {
+				return key;
+			}
+
+			@Override
+			public String createValue() {
+				return key.toUpperCase();
+			}
+		};
+	}
+
+}
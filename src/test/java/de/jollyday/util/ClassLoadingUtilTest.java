@@ -15,10 +15,28 @@
  */
 package de.jollyday.util;
 
+import de.jollyday.datasource.impl.XmlFileDataSource;
+import de.jollyday.parser.HolidayParser;
+import de.jollyday.Holiday;
+import de.jollyday.config.Holidays;
+import de.jollyday.parser.impl.ChristianHolidayParser;
+import de.jollyday.parser.impl.FixedParser;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author sven
@@ -45,4 +63,71 @@ public class ClassLoadingUtilTest {
 		assertSame(ClassLoadingUtil.class, classLoadingUtil.loadClass(ClassLoadingUtil.class.getName()));
 	}
 
+	@Test
+	public void testCreateProviderInstance() throws Exception {
+		HolidayParser parser = classLoadingUtil.createInstance(HolidayParser.class, FixedParser.class.getName());
+		assertSame(FixedParser.class, parser.getClass());
+		assertNotSame(parser, classLoadingUtil.createInstance(HolidayParser.class, FixedParser.class.getName()));
+	}
+
+	@Test
+	public void testCreateInstances() throws Exception {
+		Map<String, HolidayParser> parsers = classLoadingUtil.createInstances(HolidayParser.class,
+				Arrays.asList(FixedParser.class.getName(), ChristianHolidayParser.class.getName()));
+		assertEquals(2, parsers.size());
+		assertSame(FixedParser.class, parsers.get(FixedParser.class.getName()).getClass());
+		assertSame(ChristianHolidayParser.class, parsers.get(ChristianHolidayParser.class.getName()).getClass());
+		assertTrue(classLoadingUtil.createInstances(HolidayParser.class, Collections.emptySet()).isEmpty());
+	}
+
+	@Test
+	public void testCreateUnregisteredInstance() throws Exception {
+		assertSame(UnregisteredParser.class,
+				classLoadingUtil.createInstance(HolidayParser.class, UnregisteredParser.class.getName()).getClass());
+	}
+
+	@Test
+	public void testProvidersDoNotPinClassLoader() throws Exception {
+		WeakReference<ClassLoader> reference = createInstanceWithContextClassLoader();
+		for (int i = 0; i < 50 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(reference.get(), "The class loader was not collected.");
+	}
+
+	private WeakReference<ClassLoader> createInstanceWithContextClassLoader() throws Exception {
+		Thread thread = Thread.currentThread();
+		ClassLoader original = thread.getContextClassLoader();
+		ClassLoader classLoader = new URLClassLoader(new URL[0], original);
+		thread.setContextClassLoader(classLoader);
+		try {
+			assertSame(FixedParser.class,
+					classLoadingUtil.createInstance(HolidayParser.class, FixedParser.class.getName()).getClass());
+		} finally {
+			thread.setContextClassLoader(original);
+		}
+		return new WeakReference<>(classLoader);
+	}
+
+	@Test
+	public void testCreateInstanceOfOtherService() {
+		assertThrows(ClassCastException.class,
+				() -> classLoadingUtil.createInstance(HolidayParser.class, XmlFileDataSource.class.getName()));
+	}
+
+	@Test
+	public void testCreateInstanceNotFound() {
+		assertThrows(ClassNotFoundException.class, () -> classLoadingUtil.createInstance(HolidayParser.class, ""));
+	}
+
+	/**
+	 * A parser which is not registered as provider.
+	 */
+	public static class UnregisteredParser implements HolidayParser {
+		@Override
+		public void parse(int year, Set<Holiday> holidays, Holidays config) {
+		}
+	}
+
 }
@@ -0,0 +1,70 @@
+package de.jollyday.util;
+
+import de.jollyday.Holiday;
+import de.jollyday.HolidayType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImmutableHolidaySetTest {
+
+	private final Holiday newYear = new Holiday(LocalDate.of(2020, 1, 1), "NEW_YEAR", HolidayType.OFFICIAL_HOLIDAY);
+	private final Holiday epiphany = new Holiday(LocalDate.of(2020, 1, 6), "EPIPHANY", HolidayType.OFFICIAL_HOLIDAY);
+	private final Holiday epiphanyUnofficial = new Holiday(LocalDate.of(2020, 1, 6), "EPIPHANY",
+			HolidayType.UNOFFICIAL_HOLIDAY);
+	private final Holiday christmas = new Holiday(LocalDate.of(2020, 12, 25), "CHRISTMAS", HolidayType.OFFICIAL_HOLIDAY);
+
+	@Test
+	public void testCopyIsSortedAndDistinct() {
+		ImmutableHolidaySet set = ImmutableHolidaySet
+				.copyOf(Arrays.asList(christmas, epiphanyUnofficial, newYear, epiphany, christmas));
+		assertEquals(Arrays.asList(newYear, epiphany, epiphanyUnofficial, christmas), new ArrayList<>(set));
+		assertEquals(new HashSet<>(set), set);
+		assertEquals(new HashSet<>(set).hashCode(), set.hashCode());
+		assertTrue(set.contains(epiphanyUnofficial));
+		assertFalse(set.contains(new Holiday(LocalDate.of(2020, 1, 6), "OTHER", HolidayType.OFFICIAL_HOLIDAY)));
+		assertFalse(set.contains("CHRISTMAS"));
+		assertSame(set, ImmutableHolidaySet.copyOf(set));
+		assertSame(ImmutableHolidaySet.of(), ImmutableHolidaySet.copyOf(new HashSet<>()));
+	}
+
+	@Test
+	public void testIsImmutable() {
+		Set<Holiday> set = ImmutableHolidaySet.copyOf(Arrays.asList(newYear, christmas));
+		assertThrows(UnsupportedOperationException.class, () -> set.add(epiphany));
+		assertThrows(UnsupportedOperationException.class, () -> set.remove(newYear));
+		assertThrows(UnsupportedOperationException.class, () -> set.removeIf(h -> true));
+		assertThrows(UnsupportedOperationException.class, set::clear);
+		assertEquals(2, set.size());
+	}
+
+	@Test
+	public void testSortedSetViews() {
+		SortedSet<Holiday> set = ImmutableHolidaySet.copyOf(Arrays.asList(newYear, epiphany, christmas));
+		assertSame(newYear, set.first());
+		assertSame(christmas, set.last());
+		assertEquals(Arrays.asList(newYear), new ArrayList<>(set.headSet(epiphany)));
+		assertEquals(Arrays.asList(epiphany, christmas), new ArrayList<>(set.tailSet(epiphany)));
+		SortedSet<Holiday> subSet = set.subSet(epiphany, christmas);
+		assertEquals(1, subSet.size());
+		assertFalse(subSet.contains(newYear));
+		assertTrue(subSet.headSet(epiphany).isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> set.subSet(christmas, newYear));
+		assertThrows(java.util.NoSuchElementException.class, () -> set.headSet(newYear).first());
+	}
+
+	@Test
+	public void testStream() {
+		List<Holiday> holidays = Arrays.asList(newYear, epiphany, christmas);
+		assertEquals(holidays, Arrays.asList(ImmutableHolidaySet.copyOf(holidays).stream().toArray(Holiday[]::new)));
+	}
+
+}
@@ -29,6 +29,7 @@ import javax.xml.bind.Unmarshaller;
 import java.io.IOException;
 import java.io.InputStream;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
@@ -70,4 +71,26 @@ public class XMLUtilTest {
 		xmlUtil.unmarshallConfiguration(inputStream);
 		verify(element).getValue();
 	}
+
+	@Test
+	public void testUnmarshallerIsReused() throws JAXBException {
+		JAXBContext ctx = mock(JAXBContext.class);
+		Unmarshaller unmarshaller = mock(Unmarshaller.class);
+		@SuppressWarnings("unchecked")
+		JAXBElement<Configuration> element = mock(JAXBElement.class);
+		when(contextCreator.create(eq(XMLUtil.PACKAGE), any(ClassLoader.class))).thenReturn(ctx);
+		when(ctx.createUnmarshaller()).thenReturn(unmarshaller);
+		when(unmarshaller.unmarshal(inputStream)).thenReturn(element);
+		xmlUtil.unmarshallConfiguration(inputStream);
+		xmlUtil.unmarshallConfiguration(inputStream);
+		verify(ctx, times(1)).createUnmarshaller();
+		verify(unmarshaller, times(2)).unmarshal(inputStream);
+	}
+
+	@Test
+	public void testContextIsCachedPerClassLoader() throws JAXBException {
+		XMLUtil.JAXBContextCreator creator = new XMLUtil().new JAXBContextCreator();
+		ClassLoader classLoader = Configuration.class.getClassLoader();
+		assertSame(creator.create(XMLUtil.PACKAGE, classLoader), creator.create(XMLUtil.PACKAGE, classLoader));
+	}
 }